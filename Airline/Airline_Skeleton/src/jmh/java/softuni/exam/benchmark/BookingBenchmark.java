@@ -0,0 +1,126 @@
+package softuni.exam.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import softuni.exam.ExamApplication;
+import softuni.exam.models.dto.view.BookingViewDto;
+import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Plane;
+import softuni.exam.models.entity.Town;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.PlaneRepository;
+import softuni.exam.repository.RouteRevenueRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.BookingService;
+import softuni.exam.service.PassengerService;
+import softuni.exam.util.SeatInventory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookingBenchmark {
+
+    private static final String PASSENGER_EMAIL = "booking.benchmark@example.com";
+    private static final String PLANE_REGISTER_NUMBER = "BENCH-001";
+    private static final String FROM_TOWN = "Sofia";
+    private static final String TO_TOWN = "Varna";
+    private static final LocalDateTime TAKEOFF = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final BigDecimal PRICE = new BigDecimal("120.00");
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private SeatInventory seatInventory;
+    private Plane plane;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(ExamApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+
+        context.getBean(RouteRevenueRepository.class).deleteAllInBatch();
+        context.getBean(TicketRepository.class).deleteAllInBatch();
+        context.getBean(PassengerService.class).recountTickets();
+
+        TownRepository townRepository = context.getBean(TownRepository.class);
+        town(townRepository, FROM_TOWN);
+        Town passengerTown = town(townRepository, TO_TOWN);
+
+        PassengerRepository passengerRepository = context.getBean(PassengerRepository.class);
+        if (passengerRepository.findByEmail(PASSENGER_EMAIL) == null) {
+            Passenger passenger = new Passenger();
+            passenger.setFirstName("Booking");
+            passenger.setLastName("Benchmark");
+            passenger.setAge(30);
+            passenger.setPhoneNumber("0000000000");
+            passenger.setEmail(PASSENGER_EMAIL);
+            passenger.setTown(passengerTown);
+            passengerRepository.save(passenger);
+        }
+
+        PlaneRepository planeRepository = context.getBean(PlaneRepository.class);
+        plane = planeRepository.findByRegisterNumber(PLANE_REGISTER_NUMBER);
+        if (plane == null) {
+            plane = new Plane();
+            plane.setRegisterNumber(PLANE_REGISTER_NUMBER);
+            plane.setAirline("Benchmark Air");
+            plane.setCapacity(Integer.MAX_VALUE);
+            plane = planeRepository.save(plane);
+        }
+
+        bookingService = context.getBean(BookingService.class);
+        seatInventory = context.getBean(SeatInventory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean reserveSeat() {
+        return seatInventory.tryReserve(plane, TAKEOFF.plusDays(1));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public BookingViewDto book() {
+        return bookingService.book(PASSENGER_EMAIL, PLANE_REGISTER_NUMBER, FROM_TOWN, TO_TOWN, TAKEOFF, PRICE);
+    }
+
+    private static Town town(TownRepository townRepository, String name) {
+        Town town = townRepository.findByName(name);
+
+        if (town == null) {
+            town = new Town();
+            town.setName(name);
+            town.setPopulation(1_000_000);
+            town = townRepository.save(town);
+        }
+
+        return town;
+    }
+}
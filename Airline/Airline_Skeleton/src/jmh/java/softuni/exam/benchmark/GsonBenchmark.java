@@ -0,0 +1,66 @@
+package softuni.exam.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import softuni.exam.config.ApplicationBeanConfiguration;
+import softuni.exam.models.dto.json.PassengerSeedDto;
+import softuni.exam.models.dto.json.TownSeedDto;
+import softuni.exam.util.impl.JsonParserImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonBenchmark {
+
+    private static final String PASSENGERS_FILE_PATH = "src/main/resources/files/json/passengers.json";
+    private static final String TOWNS_FILE_PATH = "src/main/resources/files/json/towns.json";
+
+    private Gson gson;
+    private JsonParserImpl jsonParser;
+    private String passengersJson;
+    private String townsJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        gson = new ApplicationBeanConfiguration().gson();
+        jsonParser = new JsonParserImpl(gson);
+        passengersJson = Files.readString(Path.of(PASSENGERS_FILE_PATH));
+        townsJson = Files.readString(Path.of(TOWNS_FILE_PATH));
+    }
+
+    @Benchmark
+    public PassengerSeedDto[] fromJsonPassengers() {
+        return gson.fromJson(passengersJson, PassengerSeedDto[].class);
+    }
+
+    @Benchmark
+    public TownSeedDto[] fromJsonTowns() {
+        return gson.fromJson(townsJson, TownSeedDto[].class);
+    }
+
+    @Benchmark
+    public void streamPassengers(Blackhole blackhole) throws IOException {
+        try (Stream<PassengerSeedDto> passengers = jsonParser.stream(PASSENGERS_FILE_PATH, PassengerSeedDto.class)) {
+            passengers.forEach(blackhole::consume);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package softuni.exam.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import softuni.exam.ExamApplication;
+import softuni.exam.repository.ImportCheckpointRepository;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.PlaneRepository;
+import softuni.exam.repository.RouteRevenueRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.PassengerService;
+import softuni.exam.service.PlaneService;
+import softuni.exam.service.TicketService;
+import softuni.exam.service.TownService;
+import softuni.exam.util.ImportMetrics;
+
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TownService townService;
+    private PassengerService passengerService;
+    private PlaneService planeService;
+    private TicketService ticketService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(ExamApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+
+        townService = context.getBean(TownService.class);
+        passengerService = context.getBean(PassengerService.class);
+        planeService = context.getBean(PlaneService.class);
+        ticketService = context.getBean(TicketService.class);
+    }
+
+    // The checkpoints go with the tables, otherwise every run after the first would skip its files as unchanged
+    @Setup(Level.Invocation)
+    public void clearTables() {
+        context.getBean(RouteRevenueRepository.class).deleteAllInBatch();
+        context.getBean(TicketRepository.class).deleteAllInBatch();
+        context.getBean(PassengerRepository.class).deleteAllInBatch();
+        context.getBean(PlaneRepository.class).deleteAllInBatch();
+        context.getBean(TownRepository.class).deleteAllInBatch();
+        context.getBean(ImportCheckpointRepository.class).deleteAllInBatch();
+    }
+
+    // Result bytes and rows per second per entity, averaged over every run including warmup
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.getBean(ImportMetrics.class).getStats()
+                .forEach(stats -> System.out.printf("%s: %d result bytes per import, %d rows/s%n",
+                        stats.getEntity(), stats.getResultBytesPerRun(), stats.getRowsPerSecond()));
+
+        context.close();
+    }
+
+    @Benchmark
+    public String importAll() throws JAXBException, IOException {
+        return townService.importTowns()
+                + passengerService.importPassengers()
+                + planeService.importPlanes()
+                + ticketService.importTickets();
+    }
+}
@@ -0,0 +1,79 @@
+package softuni.exam.benchmark;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import softuni.exam.config.ApplicationBeanConfiguration;
+import softuni.exam.models.dto.json.PassengerSeedDto;
+import softuni.exam.models.dto.xml.FromTownNameDto;
+import softuni.exam.models.dto.xml.PassengerEmailDto;
+import softuni.exam.models.dto.xml.PlaneRegNumberDto;
+import softuni.exam.models.dto.xml.TicketSeedDto;
+import softuni.exam.models.dto.xml.ToTownNameDto;
+import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Ticket;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private TicketSeedDto ticket;
+    private PassengerSeedDto passenger;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ApplicationBeanConfiguration().modelMapper();
+
+        FromTownNameDto fromTown = new FromTownNameDto();
+        fromTown.setName("Sofia");
+        ToTownNameDto toTown = new ToTownNameDto();
+        toTown.setName("Varna");
+        PassengerEmailDto passengerEmail = new PassengerEmailDto();
+        passengerEmail.setEmail("passenger@mail.com");
+        PlaneRegNumberDto plane = new PlaneRegNumberDto();
+        plane.setRegisterNumber("LZ-12345");
+
+        ticket = new TicketSeedDto();
+        ticket.setSerialNumber("SN12345");
+        ticket.setPrice(BigDecimal.valueOf(150));
+        ticket.setTakeoff("2020-01-01 10:00:00");
+        ticket.setFromTown(fromTown);
+        ticket.setToTown(toTown);
+        ticket.setPassenger(passengerEmail);
+        ticket.setPlane(plane);
+
+        passenger = new PassengerSeedDto();
+        passenger.setFirstName("First");
+        passenger.setLastName("Last");
+        passenger.setAge(30);
+        passenger.setPhoneNumber("+359888123456");
+        passenger.setEmail("passenger@mail.com");
+        passenger.setTown("Sofia");
+    }
+
+    @Benchmark
+    public Ticket mapTicket() {
+        return modelMapper.map(ticket, Ticket.class);
+    }
+
+    @Benchmark
+    public Passenger mapPassenger() {
+        return modelMapper.map(passenger, Passenger.class);
+    }
+}
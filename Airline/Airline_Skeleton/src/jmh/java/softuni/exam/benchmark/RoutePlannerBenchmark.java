@@ -0,0 +1,95 @@
+package softuni.exam.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import softuni.exam.util.RouteCriteria;
+import softuni.exam.util.RouteEdge;
+import softuni.exam.util.RouteGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoutePlannerBenchmark {
+
+    private static final int TOWNS = 500;
+    private static final long SECONDS_PER_YEAR = 365L * 24 * 3600;
+    private static final long MIN_CONNECTION_SECONDS = 2 * 3600;
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    private int tickets;
+
+    private RouteGraph graph;
+    private List<RouteEdge> chunk;
+    private long[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<RouteEdge> edges = new ArrayList<>(tickets);
+
+        for (int i = 1; i <= tickets; i++) {
+            edges.add(randomEdge(random, i));
+        }
+
+        graph = RouteGraph.empty().with(edges);
+
+        chunk = new ArrayList<>(1000);
+        for (int i = 1; i <= 1000; i++) {
+            chunk.add(randomEdge(random, tickets + i));
+        }
+
+        queries = new long[QUERIES * 2];
+        for (int i = 0; i < queries.length; i += 2) {
+            queries[i] = 1 + random.nextInt(TOWNS);
+            queries[i + 1] = 1 + random.nextInt(TOWNS);
+        }
+    }
+
+    @Benchmark
+    public List<RouteEdge> cheapest() {
+        return plan(RouteCriteria.CHEAPEST);
+    }
+
+    @Benchmark
+    public List<RouteEdge> fewestHops() {
+        return plan(RouteCriteria.FEWEST_HOPS);
+    }
+
+    @Benchmark
+    public RouteGraph mergeImportChunk() {
+        return graph.with(chunk);
+    }
+
+    private List<RouteEdge> plan(RouteCriteria criteria) {
+        int query = next;
+        next = (next + 2) % queries.length;
+
+        return graph.plan(queries[query], queries[query + 1], 0, MIN_CONNECTION_SECONDS, criteria);
+    }
+
+    private static RouteEdge randomEdge(SplittableRandom random, long ticketId) {
+        long from = 1 + random.nextInt(TOWNS);
+        long to = 1 + (from + random.nextInt(TOWNS - 1)) % TOWNS;
+
+        return new RouteEdge(ticketId, from, to, random.nextLong(SECONDS_PER_YEAR), 5_000 + random.nextInt(200_000));
+    }
+}
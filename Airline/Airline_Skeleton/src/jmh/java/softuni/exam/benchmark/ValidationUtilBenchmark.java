@@ -0,0 +1,81 @@
+package softuni.exam.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import softuni.exam.models.dto.json.PassengerSeedDto;
+import softuni.exam.models.dto.xml.TicketSeedDto;
+import softuni.exam.util.impl.ValidationUtilImpl;
+
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationUtilBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private ValidationUtilImpl validationUtil;
+    private PassengerSeedDto passenger;
+    private TicketSeedDto ticket;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validationUtil = new ValidationUtilImpl(validatorFactory.getValidator());
+        validationUtil.warmUpSeedDtoConstraints();
+
+        passenger = new PassengerSeedDto();
+        passenger.setFirstName("First");
+        passenger.setLastName("Last");
+        passenger.setAge(30);
+        passenger.setPhoneNumber("+359888123456");
+        passenger.setEmail("passenger@mail.com");
+        passenger.setTown("Sofia");
+
+        ticket = new TicketSeedDto();
+        ticket.setSerialNumber("SN12345");
+        ticket.setPrice(BigDecimal.valueOf(150));
+        ticket.setTakeoff("2020-01-01 10:00:00");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean isValidPassenger() {
+        return validationUtil.isValid(passenger);
+    }
+
+    @Benchmark
+    public boolean isValidTicket() {
+        return validationUtil.isValid(ticket);
+    }
+
+    @Benchmark
+    public boolean isValidWithFactoryPerRecord() {
+        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+
+        try {
+            return factory.getValidator().validate(passenger).isEmpty();
+        } finally {
+            factory.close();
+        }
+    }
+}
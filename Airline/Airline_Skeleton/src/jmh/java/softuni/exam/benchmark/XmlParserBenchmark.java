@@ -0,0 +1,59 @@
+package softuni.exam.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import softuni.exam.models.dto.xml.PlaneRootSeedDto;
+import softuni.exam.models.dto.xml.TicketRootSeedDto;
+import softuni.exam.models.dto.xml.TicketSeedDto;
+import softuni.exam.util.impl.XmlParserImpl;
+
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlParserBenchmark {
+
+    private static final String PLANES_FILE_PATH = "src/main/resources/files/xml/planes.xml";
+    private static final String TICKETS_FILE_PATH = "src/main/resources/files/xml/tickets.xml";
+
+    private XmlParserImpl xmlParser;
+
+    @Setup
+    public void setUp() throws JAXBException {
+        xmlParser = new XmlParserImpl();
+        xmlParser.registerRootSeedDtos();
+    }
+
+    @Benchmark
+    public PlaneRootSeedDto fromFilePlanes() throws JAXBException, IOException {
+        return xmlParser.fromFile(PLANES_FILE_PATH, PlaneRootSeedDto.class);
+    }
+
+    @Benchmark
+    public TicketRootSeedDto fromFileTickets() throws JAXBException, IOException {
+        return xmlParser.fromFile(TICKETS_FILE_PATH, TicketRootSeedDto.class);
+    }
+
+    @Benchmark
+    public void streamTickets(Blackhole blackhole) throws JAXBException, IOException {
+        try (Stream<TicketSeedDto> tickets = xmlParser.stream(TICKETS_FILE_PATH, "ticket", TicketSeedDto.class)) {
+            tickets.forEach(blackhole::consume);
+        }
+    }
+}
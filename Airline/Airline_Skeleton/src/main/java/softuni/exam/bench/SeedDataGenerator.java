@@ -0,0 +1,198 @@
+package softuni.exam.bench;
+
+import com.google.gson.stream.JsonWriter;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+public class SeedDataGenerator {
+
+    private static final String DEFAULT_OUTPUT_DIR = "target/seed-data";
+    private static final long TOWNS_PER_SCALE = 100;
+    private static final long PASSENGERS_PER_SCALE = 10_000;
+    private static final long PLANES_PER_SCALE = 1_000;
+    private static final long TICKETS_PER_SCALE = 100_000;
+    private static final long SEED = 42;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDateTime FIRST_TAKEOFF = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final String[] AIRLINES = {"Bulgaria Air", "Lufthansa", "Ryanair", "Wizz Air", "Air France"};
+
+    private final long towns;
+    private final long passengers;
+    private final long planes;
+    private final long tickets;
+    private final Path outputDir;
+    private final SplittableRandom random = new SplittableRandom(SEED);
+
+    public SeedDataGenerator(long scale, Path outputDir) {
+        this.towns = TOWNS_PER_SCALE * scale;
+        this.passengers = PASSENGERS_PER_SCALE * scale;
+        this.planes = PLANES_PER_SCALE * scale;
+        this.tickets = TICKETS_PER_SCALE * scale;
+        this.outputDir = outputDir;
+    }
+
+    public static void main(String[] args) throws IOException, XMLStreamException {
+        long scale = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        Path outputDir = Path.of(args.length > 1 ? args[1] : DEFAULT_OUTPUT_DIR);
+
+        new SeedDataGenerator(scale, outputDir).generate();
+    }
+
+    public void generate() throws IOException, XMLStreamException {
+        Files.createDirectories(outputDir.resolve("json"));
+        Files.createDirectories(outputDir.resolve("xml"));
+
+        writeTowns(outputDir.resolve("json/towns.json"));
+        writePassengers(outputDir.resolve("json/passengers.json"));
+        writePlanes(outputDir.resolve("xml/planes.xml"));
+        writeTickets(outputDir.resolve("xml/tickets.xml"));
+    }
+
+    private void writeTowns(Path path) throws IOException {
+        try (JsonWriter json = jsonWriter(path)) {
+            json.beginArray();
+
+            for (long i = 1; i <= towns; i++) {
+                json.beginObject()
+                        .name("name").value(townName(i))
+                        .name("population").value(1_000 + random.nextLong(10_000_000))
+                        .name("guide").value("Travel guide for " + townName(i) + ".")
+                        .endObject();
+            }
+
+            json.endArray();
+        }
+    }
+
+    private void writePassengers(Path path) throws IOException {
+        try (JsonWriter json = jsonWriter(path)) {
+            json.beginArray();
+
+            for (long i = 1; i <= passengers; i++) {
+                json.beginObject()
+                        .name("firstName").value("First" + i)
+                        .name("lastName").value("Last" + i)
+                        .name("age").value(18 + random.nextInt(70))
+                        .name("phoneNumber").value(String.format("+359 (88) %03d-%04d", random.nextInt(1000), random.nextInt(10_000)))
+                        .name("email").value(passengerEmail(i))
+                        .name("town").value(townName(1 + random.nextLong(towns)))
+                        .endObject();
+            }
+
+            json.endArray();
+        }
+    }
+
+    private void writePlanes(Path path) throws IOException, XMLStreamException {
+        try (Writer writer = bufferedWriter(path)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("planes");
+
+            for (long i = 1; i <= planes; i++) {
+                startElement(xml, 1, "plane");
+                element(xml, 2, "register-number", registerNumber(i));
+                element(xml, 2, "capacity", String.valueOf(50 + random.nextInt(400)));
+                element(xml, 2, "airline", AIRLINES[random.nextInt(AIRLINES.length)]);
+                endElement(xml, 1);
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        }
+    }
+
+    private void writeTickets(Path path) throws IOException, XMLStreamException {
+        try (Writer writer = bufferedWriter(path)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("tickets");
+
+            for (long i = 1; i <= tickets; i++) {
+                long fromTown = 1 + random.nextLong(towns);
+                long toTown = towns > 1 ? 1 + (fromTown + random.nextLong(towns - 1)) % towns : fromTown;
+
+                startElement(xml, 1, "ticket");
+                element(xml, 2, "serial-number", "SN" + i);
+                element(xml, 2, "price", BigDecimal.valueOf(1_000 + random.nextInt(100_000), 2).toPlainString());
+                element(xml, 2, "take-off", FIRST_TAKEOFF.plusMinutes(random.nextInt(525_600)).format(DATE_TIME_FORMAT));
+                nestedElement(xml, "from-town", "name", townName(fromTown));
+                nestedElement(xml, "to-town", "name", townName(toTown));
+                nestedElement(xml, "passenger", "email", passengerEmail(1 + random.nextLong(passengers)));
+                nestedElement(xml, "plane", "register-number", registerNumber(1 + random.nextLong(planes)));
+                endElement(xml, 1);
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        }
+    }
+
+    private static String townName(long i) {
+        return "Town" + i;
+    }
+
+    private static String passengerEmail(long i) {
+        return "passenger" + i + "@example.com";
+    }
+
+    private static String registerNumber(long i) {
+        return String.format("REG%09d", i);
+    }
+
+    private static JsonWriter jsonWriter(Path path) throws IOException {
+        JsonWriter json = new JsonWriter(bufferedWriter(path));
+        json.setIndent("  ");
+
+        return json;
+    }
+
+    private static Writer bufferedWriter(Path path) throws IOException {
+        return new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static void startElement(XMLStreamWriter xml, int depth, String name) throws XMLStreamException {
+        indent(xml, depth);
+        xml.writeStartElement(name);
+    }
+
+    private static void endElement(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        indent(xml, depth);
+        xml.writeEndElement();
+    }
+
+    private static void element(XMLStreamWriter xml, int depth, String name, String value) throws XMLStreamException {
+        startElement(xml, depth, name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    private static void nestedElement(XMLStreamWriter xml, String name, String childName, String value) throws XMLStreamException {
+        startElement(xml, 2, name);
+        element(xml, 3, childName, value);
+        endElement(xml, 2);
+    }
+
+    private static void indent(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        xml.writeCharacters("\n" + "    ".repeat(depth));
+    }
+}
@@ -8,6 +8,9 @@ import org.modelmapper.spi.MappingContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -37,5 +40,15 @@ public class ApplicationBeanConfiguration {
         return modelMapper;
     }
 
+    @Bean
+    public ValidatorFactory validatorFactory() {
+        return Validation.buildDefaultValidatorFactory();
+    }
+
+    @Bean
+    public Validator validator(ValidatorFactory validatorFactory) {
+        return validatorFactory.getValidator();
+    }
+
 
 }
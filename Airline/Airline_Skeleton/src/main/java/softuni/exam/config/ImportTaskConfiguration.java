@@ -0,0 +1,35 @@
+package softuni.exam.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import softuni.exam.service.PassengerService;
+import softuni.exam.service.PlaneService;
+import softuni.exam.service.TicketService;
+import softuni.exam.service.TownService;
+import softuni.exam.util.ImportTask;
+
+import java.util.List;
+
+@Configuration
+public class ImportTaskConfiguration {
+
+    @Bean
+    public ImportTask townsImport(TownService townService) {
+        return new ImportTask("towns", List.of(), townService::areImported, townService::importTowns);
+    }
+
+    @Bean
+    public ImportTask planesImport(PlaneService planeService) {
+        return new ImportTask("planes", List.of(), planeService::areImported, planeService::importPlanes);
+    }
+
+    @Bean
+    public ImportTask passengersImport(PassengerService passengerService) {
+        return new ImportTask("passengers", List.of("towns"), passengerService::areImported, passengerService::importPassengers);
+    }
+
+    @Bean
+    public ImportTask ticketsImport(TicketService ticketService) {
+        return new ImportTask("tickets", List.of("towns", "planes", "passengers"), ticketService::areImported, ticketService::importTickets);
+    }
+}
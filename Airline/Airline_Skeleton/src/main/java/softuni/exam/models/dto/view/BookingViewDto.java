@@ -0,0 +1,59 @@
+package softuni.exam.models.dto.view;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class BookingViewDto {
+
+    private final Long ticketId;
+    private final String serialNumber;
+    private final String passenger;
+    private final String plane;
+    private final String fromTown;
+    private final String toTown;
+    private final LocalDateTime takeoff;
+    private final BigDecimal price;
+
+    public BookingViewDto(Long ticketId, String serialNumber, String passenger, String plane, String fromTown, String toTown, LocalDateTime takeoff, BigDecimal price) {
+        this.ticketId = ticketId;
+        this.serialNumber = serialNumber;
+        this.passenger = passenger;
+        this.plane = plane;
+        this.fromTown = fromTown;
+        this.toTown = toTown;
+        this.takeoff = takeoff;
+        this.price = price;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    public String getPassenger() {
+        return passenger;
+    }
+
+    public String getPlane() {
+        return plane;
+    }
+
+    public String getFromTown() {
+        return fromTown;
+    }
+
+    public String getToTown() {
+        return toTown;
+    }
+
+    public LocalDateTime getTakeoff() {
+        return takeoff;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,53 @@
+package softuni.exam.models.dto.view;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class DepartureViewDto {
+
+    private final Long ticketId;
+    private final String serialNumber;
+    private final String fromTown;
+    private final String toTown;
+    private final LocalDateTime takeoff;
+    private final BigDecimal price;
+    private final String plane;
+
+    public DepartureViewDto(Long ticketId, String serialNumber, String fromTown, String toTown, LocalDateTime takeoff, BigDecimal price, String plane) {
+        this.ticketId = ticketId;
+        this.serialNumber = serialNumber;
+        this.fromTown = fromTown;
+        this.toTown = toTown;
+        this.takeoff = takeoff;
+        this.price = price;
+        this.plane = plane;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    public String getFromTown() {
+        return fromTown;
+    }
+
+    public String getToTown() {
+        return toTown;
+    }
+
+    public LocalDateTime getTakeoff() {
+        return takeoff;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public String getPlane() {
+        return plane;
+    }
+}
@@ -0,0 +1,5 @@
+package softuni.exam.models.dto.view;
+
+public enum ImportJobStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED
+}
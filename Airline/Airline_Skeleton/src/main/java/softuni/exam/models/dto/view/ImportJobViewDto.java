@@ -0,0 +1,67 @@
+package softuni.exam.models.dto.view;
+
+public class ImportJobViewDto {
+
+    private final String id;
+    private final String entity;
+    private final ImportJobStatus status;
+    private final long recordsDone;
+    private final long bytesRead;
+    private final long totalBytes;
+    private final long elapsedMillis;
+    private final Long etaMillis;
+    private final String error;
+
+    public ImportJobViewDto(String id, String entity, ImportJobStatus status, long recordsDone, long bytesRead,
+                            long totalBytes, long elapsedMillis, Long etaMillis, String error) {
+        this.id = id;
+        this.entity = entity;
+        this.status = status;
+        this.recordsDone = recordsDone;
+        this.bytesRead = bytesRead;
+        this.totalBytes = totalBytes;
+        this.elapsedMillis = elapsedMillis;
+        this.etaMillis = etaMillis;
+        this.error = error;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    public long getRecordsDone() {
+        return recordsDone;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public Long getEtaMillis() {
+        return etaMillis;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.SUCCEEDED || status == ImportJobStatus.FAILED || status == ImportJobStatus.CANCELLED;
+    }
+}
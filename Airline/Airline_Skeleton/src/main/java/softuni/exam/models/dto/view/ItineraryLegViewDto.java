@@ -0,0 +1,41 @@
+package softuni.exam.models.dto.view;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class ItineraryLegViewDto {
+
+    private final Long ticketId;
+    private final String fromTown;
+    private final String toTown;
+    private final LocalDateTime takeoff;
+    private final BigDecimal price;
+
+    public ItineraryLegViewDto(Long ticketId, String fromTown, String toTown, LocalDateTime takeoff, BigDecimal price) {
+        this.ticketId = ticketId;
+        this.fromTown = fromTown;
+        this.toTown = toTown;
+        this.takeoff = takeoff;
+        this.price = price;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public String getFromTown() {
+        return fromTown;
+    }
+
+    public String getToTown() {
+        return toTown;
+    }
+
+    public LocalDateTime getTakeoff() {
+        return takeoff;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+}
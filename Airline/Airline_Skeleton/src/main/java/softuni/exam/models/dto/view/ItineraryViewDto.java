@@ -0,0 +1,41 @@
+package softuni.exam.models.dto.view;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ItineraryViewDto {
+
+    private final String fromTown;
+    private final String toTown;
+    private final int hops;
+    private final BigDecimal totalPrice;
+    private final List<ItineraryLegViewDto> legs;
+
+    public ItineraryViewDto(String fromTown, String toTown, int hops, BigDecimal totalPrice, List<ItineraryLegViewDto> legs) {
+        this.fromTown = fromTown;
+        this.toTown = toTown;
+        this.hops = hops;
+        this.totalPrice = totalPrice;
+        this.legs = legs;
+    }
+
+    public String getFromTown() {
+        return fromTown;
+    }
+
+    public String getToTown() {
+        return toTown;
+    }
+
+    public int getHops() {
+        return hops;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public List<ItineraryLegViewDto> getLegs() {
+        return legs;
+    }
+}
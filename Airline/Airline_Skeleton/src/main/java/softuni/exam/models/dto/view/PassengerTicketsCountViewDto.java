@@ -0,0 +1,38 @@
+package softuni.exam.models.dto.view;
+
+public class PassengerTicketsCountViewDto {
+
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String phoneNumber;
+    private final Long ticketsCount;
+
+    public PassengerTicketsCountViewDto(String firstName, String lastName, String email, String phoneNumber, Long ticketsCount) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.ticketsCount = ticketsCount;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public Long getTicketsCount() {
+        return ticketsCount;
+    }
+}
@@ -0,0 +1,47 @@
+package softuni.exam.models.dto.view;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class RouteRevenueViewDto {
+
+    private final String fromTown;
+    private final String toTown;
+    private final String airline;
+    private final LocalDate day;
+    private final BigDecimal revenue;
+    private final Long tickets;
+
+    public RouteRevenueViewDto(String fromTown, String toTown, String airline, LocalDate day, BigDecimal revenue, Long tickets) {
+        this.fromTown = fromTown;
+        this.toTown = toTown;
+        this.airline = airline;
+        this.day = day;
+        this.revenue = revenue;
+        this.tickets = tickets;
+    }
+
+    public String getFromTown() {
+        return fromTown;
+    }
+
+    public String getToTown() {
+        return toTown;
+    }
+
+    public String getAirline() {
+        return airline;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public Long getTickets() {
+        return tickets;
+    }
+}
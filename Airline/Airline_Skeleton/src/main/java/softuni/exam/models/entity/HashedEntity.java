@@ -0,0 +1,19 @@
+package softuni.exam.models.entity;
+
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+
+@MappedSuperclass
+public abstract class HashedEntity extends BaseEntity {
+
+    private Long contentHash;
+
+    @Column(name = "content_hash")
+    public Long getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(Long contentHash) {
+        this.contentHash = contentHash;
+    }
+}
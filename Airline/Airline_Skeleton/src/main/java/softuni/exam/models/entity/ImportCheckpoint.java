@@ -0,0 +1,95 @@
+package softuni.exam.models.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "import_checkpoint")
+public class ImportCheckpoint extends BaseEntity {
+
+    private String source;
+    private Long fileSize;
+    private Long lastModified;
+    private String digest;
+    private Long recordIndex;
+    private Long byteOffset;
+    private Boolean completed;
+    private LocalDateTime updatedAt;
+
+    public ImportCheckpoint() {
+    }
+
+    @Column(name = "source", nullable = false, unique = true)
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @Column(name = "file_size", nullable = false)
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    @Column(name = "last_modified", nullable = false)
+    public Long getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    @Column(name = "digest", length = 64)
+    public String getDigest() {
+        return digest;
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
+    @Column(name = "record_index", nullable = false)
+    public Long getRecordIndex() {
+        return recordIndex;
+    }
+
+    public void setRecordIndex(Long recordIndex) {
+        this.recordIndex = recordIndex;
+    }
+
+    @Column(name = "byte_offset", nullable = false)
+    public Long getByteOffset() {
+        return byteOffset;
+    }
+
+    public void setByteOffset(Long byteOffset) {
+        this.byteOffset = byteOffset;
+    }
+
+    @Column(nullable = false)
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    @Column(name = "updated_at", nullable = false)
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
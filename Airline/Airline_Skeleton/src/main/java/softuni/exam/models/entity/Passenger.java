@@ -1,10 +1,12 @@
 package softuni.exam.models.entity;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import javax.persistence.*;
 import java.util.Set;
 
 @Entity
-@Table(name = "passengers")
+@Table(name = "passengers", indexes = @Index(name = "idx_passengers_tickets_count_email", columnList = "tickets_count DESC, email"))
 public class Passenger extends BaseEntity{
 
     private String firstName;
@@ -14,6 +16,7 @@ public class Passenger extends BaseEntity{
     private String email;
     private Town town;
     private Set<Ticket> tickets;
+    private Long ticketsCount = 0L;
 
     public Passenger() {
     }
@@ -72,7 +75,7 @@ public class Passenger extends BaseEntity{
         this.town = town;
     }
 
-    @OneToMany(mappedBy = "passenger", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "passenger")
     public Set<Ticket> getTickets() {
         return tickets;
     }
@@ -80,4 +83,15 @@ public class Passenger extends BaseEntity{
     public void setTickets(Set<Ticket> tickets) {
         this.tickets = tickets;
     }
+
+    // Kept up to date by the statements that add tickets, never by saving the passenger itself
+    @ColumnDefault("0")
+    @Column(name = "tickets_count", nullable = false, updatable = false)
+    public Long getTicketsCount() {
+        return ticketsCount;
+    }
+
+    public void setTicketsCount(Long ticketsCount) {
+        this.ticketsCount = ticketsCount;
+    }
 }
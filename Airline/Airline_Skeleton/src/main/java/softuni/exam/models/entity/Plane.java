@@ -1,12 +1,21 @@
 package softuni.exam.models.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "planes")
-public class Plane extends BaseEntity{
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "planes")
+@NaturalIdCache(region = "planes-natural-id")
+public class Plane extends HashedEntity {
 
     private String registerNumber;
     private Integer capacity;
@@ -15,6 +24,7 @@ public class Plane extends BaseEntity{
     public Plane() {
     }
 
+    @NaturalId
     @Column(name = "register_number", unique = true)
     public String getRegisterNumber() {
         return registerNumber;
@@ -0,0 +1,82 @@
+package softuni.exam.models.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "route_revenue", uniqueConstraints = @UniqueConstraint(name = "uk_route_revenue_route_airline_day",
+        columnNames = {"from_town_id", "to_town_id", "airline", "day"}))
+public class RouteRevenue extends BaseEntity {
+
+    private Town fromTown;
+    private Town toTown;
+    private String airline;
+    private LocalDate day;
+    private BigDecimal revenue;
+    private Long tickets;
+
+    public RouteRevenue() {
+    }
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "from_town_id")
+    public Town getFromTown() {
+        return fromTown;
+    }
+
+    public void setFromTown(Town fromTown) {
+        this.fromTown = fromTown;
+    }
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "to_town_id")
+    public Town getToTown() {
+        return toTown;
+    }
+
+    public void setToTown(Town toTown) {
+        this.toTown = toTown;
+    }
+
+    @Column
+    public String getAirline() {
+        return airline;
+    }
+
+    public void setAirline(String airline) {
+        this.airline = airline;
+    }
+
+    @Column(nullable = false)
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    @Column(nullable = false)
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    @Column(nullable = false)
+    public Long getTickets() {
+        return tickets;
+    }
+
+    public void setTickets(Long tickets) {
+        this.tickets = tickets;
+    }
+}
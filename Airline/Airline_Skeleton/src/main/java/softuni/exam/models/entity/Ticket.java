@@ -2,14 +2,19 @@ package softuni.exam.models.entity;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tickets")
-public class Ticket extends BaseEntity{
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_passenger_id", columnList = "passenger_id"),
+        @Index(name = "idx_tickets_from_town_id_takeoff", columnList = "from_town_id, takeoff"),
+        @Index(name = "idx_tickets_plane_id_takeoff", columnList = "plane_id, takeoff")
+})
+public class Ticket extends HashedEntity {
 
     private String serialNumber;
     private BigDecimal price;
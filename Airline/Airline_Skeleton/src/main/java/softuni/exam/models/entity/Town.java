@@ -1,12 +1,23 @@
 package softuni.exam.models.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import javax.persistence.Basic;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "towns")
-public class Town extends BaseEntity {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "towns")
+@NaturalIdCache(region = "towns-natural-id")
+public class Town extends HashedEntity {
 
     private String name;
     private Integer population;
@@ -15,6 +26,7 @@ public class Town extends BaseEntity {
     public Town() {
     }
 
+    @NaturalId
     @Column(name = "name", unique = true)
     public String getName() {
         return name;
@@ -33,6 +45,7 @@ public class Town extends BaseEntity {
         this.population = population;
     }
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     public String getGuide() {
         return guide;
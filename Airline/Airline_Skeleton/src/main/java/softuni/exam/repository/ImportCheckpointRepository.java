@@ -0,0 +1,13 @@
+package softuni.exam.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import softuni.exam.models.entity.ImportCheckpoint;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, Long> {
+
+    Optional<ImportCheckpoint> findBySource(String source);
+}
@@ -1,17 +1,57 @@
 package softuni.exam.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import softuni.exam.models.dto.view.PassengerTicketsCountViewDto;
 import softuni.exam.models.entity.Passenger;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface PassengerRepository  extends JpaRepository<Passenger, Long> {
 
+    String STREAMING_FETCH_SIZE = "1000";
+    // Ticket counts move inside a chunk's transaction, where nothing pending touches the passengers table
+    String NO_AUTO_FLUSH = "COMMIT";
+    String TICKETS_COUNT_SELECT = "SELECT new softuni.exam.models.dto.view.PassengerTicketsCountViewDto(" +
+            "p.firstName, p.lastName, p.email, p.phoneNumber, p.ticketsCount) FROM Passenger p ";
+    String TICKETS_COUNT_ORDER_BY = "ORDER BY p.ticketsCount DESC, p.email";
+
     Passenger findByEmail(String email);
 
-    @Query("SELECT p FROM Passenger p ORDER BY size(p.tickets) DESC, p.email")
-    List<Passenger> findAllPassengersByTicketCountDescThenByEmail();
+    @Query(TICKETS_COUNT_SELECT + TICKETS_COUNT_ORDER_BY)
+    List<PassengerTicketsCountViewDto> findAllPassengersByTicketCountDescThenByEmail();
+
+    @Query(TICKETS_COUNT_SELECT + TICKETS_COUNT_ORDER_BY)
+    List<PassengerTicketsCountViewDto> findAllPassengersByTicketCountDescThenByEmail(Pageable pageable);
+
+    @Query(TICKETS_COUNT_SELECT +
+            "WHERE p.ticketsCount < :ticketsCount OR (p.ticketsCount = :ticketsCount AND p.email > :email) " + TICKETS_COUNT_ORDER_BY)
+    List<PassengerTicketsCountViewDto> findAllPassengersByTicketCountDescThenByEmailAfter(@Param("ticketsCount") long ticketsCount,
+                                                                                          @Param("email") String email,
+                                                                                          Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query(TICKETS_COUNT_SELECT + TICKETS_COUNT_ORDER_BY)
+    Stream<PassengerTicketsCountViewDto> streamAllPassengersByTicketCountDescThenByEmail();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = NO_AUTO_FLUSH))
+    @Query("UPDATE Passenger p SET p.ticketsCount = p.ticketsCount + :tickets WHERE p.id IN :ids")
+    int addTickets(@Param("ids") Collection<Long> ids, @Param("tickets") long tickets);
+
+    @Modifying
+    @Query("UPDATE Passenger p SET p.ticketsCount = (SELECT COUNT(t) FROM Ticket t WHERE t.passenger = p)")
+    int recountTickets();
 }
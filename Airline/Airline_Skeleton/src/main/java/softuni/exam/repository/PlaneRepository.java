@@ -1,11 +1,12 @@
 package softuni.exam.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import softuni.exam.models.entity.Plane;
 
 @Repository
-public interface PlaneRepository extends JpaRepository<Plane, Long> {
+public interface PlaneRepository extends NaturalIdRepository<Plane, Long> {
 
-    Plane findByRegisterNumber(String registerNumber);
+    default Plane findByRegisterNumber(String registerNumber) {
+        return findBySimpleNaturalId(registerNumber).orElse(null);
+    }
 }
@@ -0,0 +1,59 @@
+package softuni.exam.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import softuni.exam.models.dto.view.RouteRevenueViewDto;
+import softuni.exam.models.entity.RouteRevenue;
+import softuni.exam.models.entity.Town;
+
+import javax.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.FLUSH_MODE;
+
+@Repository
+public interface RouteRevenueRepository extends JpaRepository<RouteRevenue, Long> {
+
+    // The group updates run once per group in a chunk's transaction; nothing in that persistence context touches the
+    // rollup table, so they skip the auto-flush that would dirty-check the whole chunk before every statement
+    String NO_AUTO_FLUSH = "COMMIT";
+
+    List<RouteRevenue> findAllByDayInAndFromTownIdIn(Collection<LocalDate> days, Collection<Long> fromTownIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = NO_AUTO_FLUSH))
+    @Query("UPDATE RouteRevenue r SET r.revenue = r.revenue + :revenue, r.tickets = r.tickets + :tickets " +
+            "WHERE r.fromTown.id = :fromTownId AND r.toTown.id = :toTownId AND r.airline = :airline AND r.day = :day")
+    int addToGroup(@Param("fromTownId") Long fromTownId,
+                   @Param("toTownId") Long toTownId,
+                   @Param("airline") String airline,
+                   @Param("day") LocalDate day,
+                   @Param("revenue") BigDecimal revenue,
+                   @Param("tickets") long tickets);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = FLUSH_MODE, value = NO_AUTO_FLUSH))
+    @Query("DELETE FROM RouteRevenue r " +
+            "WHERE r.fromTown.id = :fromTownId AND r.toTown.id = :toTownId AND r.airline = :airline AND r.day = :day AND r.tickets <= 0")
+    int deleteGroupIfEmpty(@Param("fromTownId") Long fromTownId,
+                           @Param("toTownId") Long toTownId,
+                           @Param("airline") String airline,
+                           @Param("day") LocalDate day);
+
+    @Query("SELECT new softuni.exam.models.dto.view.RouteRevenueViewDto(f.name, d.name, r.airline, r.day, r.revenue, r.tickets) " +
+            "FROM RouteRevenue r JOIN r.fromTown f JOIN r.toTown d " +
+            "WHERE r.fromTown = :fromTown AND r.toTown = :toTown AND r.airline = :airline AND r.day BETWEEN :since AND :until " +
+            "ORDER BY r.day")
+    List<RouteRevenueViewDto> findAllByRouteAndAirlineBetween(@Param("fromTown") Town fromTown,
+                                                              @Param("toTown") Town toTown,
+                                                              @Param("airline") String airline,
+                                                              @Param("since") LocalDate since,
+                                                              @Param("until") LocalDate until);
+}
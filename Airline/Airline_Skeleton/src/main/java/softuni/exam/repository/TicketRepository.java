@@ -1,10 +1,64 @@
 package softuni.exam.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import softuni.exam.models.dto.view.DepartureViewDto;
 import softuni.exam.models.entity.Ticket;
+import softuni.exam.models.entity.Town;
+import softuni.exam.util.Flight;
+import softuni.exam.util.RouteEdge;
+import softuni.exam.util.TicketRevenue;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
+    String STREAMING_FETCH_SIZE = "1000";
+    String DEPARTURES_SELECT = "SELECT new softuni.exam.models.dto.view.DepartureViewDto(" +
+            "t.id, t.serialNumber, f.name, d.name, t.takeoff, t.price, p.registerNumber) " +
+            "FROM Ticket t JOIN t.fromTown f LEFT JOIN t.toTown d LEFT JOIN t.plane p ";
+    String DEPARTURES_ORDER_BY = "ORDER BY t.takeoff, t.id";
+    String REVENUE_SELECT = "SELECT new softuni.exam.util.TicketRevenue(t.fromTown.id, t.toTown.id, p.airline, t.takeoff, t.price) " +
+            "FROM Ticket t LEFT JOIN t.plane p ";
+
+    @Query("SELECT new softuni.exam.util.RouteEdge(t.id, t.fromTown.id, t.toTown.id, t.takeoff, t.price) FROM Ticket t " +
+            "WHERE t.fromTown IS NOT NULL AND t.toTown IS NOT NULL AND t.takeoff IS NOT NULL AND t.price IS NOT NULL")
+    List<RouteEdge> findAllRouteEdges();
+
+    @Query(DEPARTURES_SELECT + "WHERE t.fromTown = :fromTown AND t.takeoff >= :afterTakeoff AND t.takeoff < :until " +
+            "AND (t.takeoff > :afterTakeoff OR t.id > :afterId) " + DEPARTURES_ORDER_BY)
+    List<DepartureViewDto> findDeparturesAfter(@Param("fromTown") Town fromTown,
+                                               @Param("afterTakeoff") LocalDateTime afterTakeoff,
+                                               @Param("afterId") long afterId,
+                                               @Param("until") LocalDateTime until,
+                                               Pageable pageable);
+
+    @Query(DEPARTURES_SELECT + "WHERE t.takeoff >= :from AND t.takeoff < :until")
+    List<DepartureViewDto> findAllDeparturesBetween(@Param("from") LocalDateTime from, @Param("until") LocalDateTime until);
+
+    @Query(REVENUE_SELECT + "WHERE t.id IN :ids")
+    List<TicketRevenue> findAllRevenueByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE))
+    @Query(REVENUE_SELECT)
+    Stream<TicketRevenue> streamAllRevenue();
+
+    @Query("SELECT new softuni.exam.util.Flight(t.plane.id, t.takeoff) FROM Ticket t WHERE t.id IN :ids")
+    List<Flight> findAllFlightsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.passenger.id FROM Ticket t WHERE t.id IN :ids AND t.passenger IS NOT NULL")
+    List<Long> findAllPassengerIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByPlaneIdAndTakeoff(Long planeId, LocalDateTime takeoff);
 }
@@ -1,10 +1,12 @@
 package softuni.exam.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import softuni.exam.models.entity.Town;
 
 @Repository
-public interface TownRepository extends JpaRepository<Town, Long> {
-    Town findByName(String name);
+public interface TownRepository extends NaturalIdRepository<Town, Long> {
+
+    default Town findByName(String name) {
+        return findBySimpleNaturalId(name).orElse(null);
+    }
 }
@@ -0,0 +1,30 @@
+package softuni.exam.repository.impl;
+
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+import softuni.exam.repository.NaturalIdRepository;
+
+import javax.persistence.EntityManager;
+import java.io.Serializable;
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class NaturalIdRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements NaturalIdRepository<T, ID> {
+
+    private final EntityManager entityManager;
+
+    public NaturalIdRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    // Resolved through the natural-id cache and the second-level cache before falling back to a query
+    @Override
+    public Optional<T> findBySimpleNaturalId(Serializable naturalId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(getDomainClass())
+                .loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,11 @@
+package softuni.exam.service;
+
+import softuni.exam.models.dto.view.BookingViewDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface BookingService {
+
+    BookingViewDto book(String passengerEmail, String planeRegisterNumber, String fromTown, String toTown, LocalDateTime takeoff, BigDecimal price);
+}
@@ -0,0 +1,15 @@
+package softuni.exam.service;
+
+import softuni.exam.models.dto.view.DepartureViewDto;
+import softuni.exam.models.entity.Ticket;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DepartureBoardService {
+
+    List<DepartureViewDto> getDepartures(String fromTown, LocalDateTime from, LocalDateTime until, LocalDateTime afterTakeoff, Long afterId, int size);
+
+    void addTickets(Collection<Ticket> tickets);
+}
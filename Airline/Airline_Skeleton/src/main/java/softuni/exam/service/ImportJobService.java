@@ -0,0 +1,20 @@
+package softuni.exam.service;
+
+import softuni.exam.models.dto.view.ImportJobViewDto;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+public interface ImportJobService {
+
+    ImportJobViewDto submit(String entity, Callable<String> importTask);
+
+    Optional<ImportJobViewDto> getJob(String id);
+
+    Optional<String> getReport(String id);
+
+    Optional<ImportJobViewDto> cancel(String id);
+
+    boolean subscribe(String id, Consumer<ImportJobViewDto> listener);
+}
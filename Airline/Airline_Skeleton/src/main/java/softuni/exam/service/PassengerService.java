@@ -1,8 +1,13 @@
 package softuni.exam.service;
 
+import softuni.exam.models.dto.view.PassengerTicketsCountViewDto;
 import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Ticket;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.List;
 
 public interface PassengerService {
 
@@ -15,4 +20,12 @@ public interface PassengerService {
     Passenger getPassengerByEmail(String email);
 
     String getPassengersOrderByTicketsCountDescendingThenByEmail();
+
+    void writePassengersOrderByTicketsCountDescendingThenByEmail(Writer writer) throws IOException;
+
+    List<PassengerTicketsCountViewDto> getPassengersOrderByTicketsCountDescendingThenByEmailPage(Long afterTicketsCount, String afterEmail, int size);
+
+    void addTickets(Collection<Ticket> tickets);
+
+    void recountTickets();
 }
@@ -3,7 +3,6 @@ package softuni.exam.service;
 import softuni.exam.models.entity.Plane;
 
 import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 public interface PlaneService {
@@ -12,7 +11,7 @@ public interface PlaneService {
 
     String readPlanesFileContent() throws IOException;
 	
-	String importPlanes() throws JAXBException, FileNotFoundException;
+	String importPlanes() throws JAXBException, IOException;
 
     Plane getPlaneByRegisterNumber(String regNumber);
 }
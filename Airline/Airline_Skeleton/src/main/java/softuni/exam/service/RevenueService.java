@@ -0,0 +1,17 @@
+package softuni.exam.service;
+
+import softuni.exam.models.dto.view.RouteRevenueViewDto;
+import softuni.exam.models.entity.Ticket;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RevenueService {
+
+    List<RouteRevenueViewDto> getRevenue(String fromTown, String toTown, String airline, LocalDate since, LocalDate until);
+
+    void addTickets(Collection<Ticket> tickets);
+
+    void rebuild();
+}
@@ -0,0 +1,18 @@
+package softuni.exam.service;
+
+import softuni.exam.models.dto.view.ItineraryViewDto;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.util.RouteCriteria;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface RouteService {
+
+    ItineraryViewDto findItinerary(String fromTown, String toTown, RouteCriteria criteria, LocalDateTime departAfter, Duration minConnection);
+
+    void addTickets(Collection<Ticket> tickets);
+
+    void rebuild();
+}
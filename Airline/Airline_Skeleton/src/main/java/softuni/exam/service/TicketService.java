@@ -1,7 +1,6 @@
 package softuni.exam.service;
 
 import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 public interface TicketService {
@@ -10,6 +9,6 @@ public interface TicketService {
 
     String readTicketsFileContent() throws IOException;
 	
-	String importTickets() throws JAXBException, FileNotFoundException;
+	String importTickets() throws JAXBException, IOException;
 
 }
@@ -0,0 +1,292 @@
+package softuni.exam.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import softuni.exam.models.dto.view.BookingViewDto;
+import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Plane;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.models.entity.Town;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.PlaneRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.BookingService;
+import softuni.exam.service.DepartureBoardService;
+import softuni.exam.service.PassengerService;
+import softuni.exam.service.RevenueService;
+import softuni.exam.service.RouteService;
+import softuni.exam.util.SeatInventory;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Service
+public class BookingServiceImpl implements BookingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BookingServiceImpl.class);
+
+    private final TicketRepository ticketRepository;
+    private final PassengerRepository passengerRepository;
+    private final PlaneRepository planeRepository;
+    private final TownRepository townRepository;
+    private final SeatInventory seatInventory;
+    private final RevenueService revenueService;
+    private final RouteService routeService;
+    private final DepartureBoardService departureBoardService;
+    private final PassengerService passengerService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long timeoutMillis;
+    private final BlockingQueue<Booking> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(namedThreads("booking-writer-"));
+
+    public BookingServiceImpl(TicketRepository ticketRepository, PassengerRepository passengerRepository, PlaneRepository planeRepository,
+                              TownRepository townRepository, SeatInventory seatInventory, RevenueService revenueService,
+                              RouteService routeService, DepartureBoardService departureBoardService, PassengerService passengerService,
+                              TransactionTemplate transactionTemplate, @Value("${booking.batch-size}") int batchSize,
+                              @Value("${booking.timeout-ms}") long timeoutMillis) {
+        this.ticketRepository = ticketRepository;
+        this.passengerRepository = passengerRepository;
+        this.planeRepository = planeRepository;
+        this.townRepository = townRepository;
+        this.seatInventory = seatInventory;
+        this.revenueService = revenueService;
+        this.routeService = routeService;
+        this.departureBoardService = departureBoardService;
+        this.passengerService = passengerService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+
+        writer.execute(this::writeBatches);
+    }
+
+    // Returns null when the flight is full. The seat is taken in memory first; the ticket is then written together with
+    // the other bookings waiting at that moment, and the call returns once that batch has committed. A booking the
+    // writer has not picked up within the timeout is withdrawn and its seat given back
+    @Override
+    public BookingViewDto book(String passengerEmail, String planeRegisterNumber, String fromTown, String toTown, LocalDateTime takeoff, BigDecimal price) {
+        if (price == null || price.signum() <= 0 || fromTown.equals(toTown)) {
+            throw new IllegalArgumentException("A booking needs a positive price and two different towns");
+        }
+
+        if (writer.isShutdown()) {
+            throw new IllegalStateException("Booking writer stopped");
+        }
+
+        Passenger passenger = passengerRepository.findByEmail(passengerEmail);
+        Plane plane = planeRepository.findByRegisterNumber(planeRegisterNumber);
+        Town from = townRepository.findByName(fromTown);
+        Town to = townRepository.findByName(toTown);
+
+        if (passenger == null || plane == null || from == null || to == null) {
+            throw new NoSuchElementException("Unknown passenger, plane or town");
+        }
+
+        if (!seatInventory.tryReserve(plane, takeoff)) {
+            return null;
+        }
+
+        Ticket ticket = new Ticket();
+        ticket.setSerialNumber(UUID.randomUUID().toString());
+        ticket.setPassenger(passenger);
+        ticket.setPlane(plane);
+        ticket.setFromTown(from);
+        ticket.setToTown(to);
+        ticket.setTakeoff(takeoff);
+        ticket.setPrice(price);
+
+        Booking booking = new Booking(ticket);
+        pending.add(booking);
+
+        try {
+            await(booking);
+        } catch (RuntimeException e) {
+            State state = booking.state.get();
+
+            if (state == State.WITHDRAWN || state == State.FAILED) {
+                seatInventory.release(plane, takeoff);
+            }
+
+            throw e;
+        }
+
+        return new BookingViewDto(ticket.getId(), ticket.getSerialNumber(), passenger.getEmail(), plane.getRegisterNumber(),
+                from.getName(), to.getName(), ticket.getTakeoff(), ticket.getPrice());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+    }
+
+    private void writeBatches() {
+        List<Booking> batch = new ArrayList<>(batchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(pending.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            pending.drainTo(batch, batchSize - 1);
+            write(batch);
+            batch.clear();
+        }
+
+        pending.drainTo(batch);
+        batch.forEach(booking -> booking.failed(new IllegalStateException("Booking writer stopped")));
+    }
+
+    // Once the writer has claimed a booking the wait is extended by one more timeout, because the ticket may already be
+    // committing and its seat must not be given back
+    private void await(Booking booking) {
+        try {
+            booking.written.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (booking.state.compareAndSet(State.QUEUED, State.WITHDRAWN)) {
+                pending.remove(booking);
+                throw new IllegalStateException("Booking was not written within " + timeoutMillis + " ms", e);
+            }
+
+            try {
+                booking.written.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | InterruptedException | ExecutionException again) {
+                throw failure(again);
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw failure(e);
+        }
+    }
+
+    private void write(List<Booking> batch) {
+        batch.removeIf(booking -> !booking.state.compareAndSet(State.QUEUED, State.WRITING));
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            writeTickets(batch);
+            batch.forEach(Booking::written);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                LOGGER.warn("Failed to write a booking", e);
+                batch.get(0).failed(e);
+
+                return;
+            }
+
+            // One bad row rolls back the whole batch, so every booking is retried on its own with the ids it was given
+            // by the rolled back insert cleared
+            LOGGER.warn("Failed to write a batch of {} bookings, retrying them one by one", batch.size(), e);
+
+            for (Booking booking : batch) {
+                booking.ticket.setId(null);
+
+                try {
+                    writeTickets(List.of(booking));
+                    booking.written();
+                } catch (RuntimeException single) {
+                    LOGGER.warn("Failed to write a booking", single);
+                    booking.failed(single);
+                }
+            }
+        }
+    }
+
+    private void writeTickets(List<Booking> batch) {
+        List<Ticket> tickets = batch.stream()
+                .map(booking -> booking.ticket)
+                .collect(Collectors.toList());
+
+        transactionTemplate.execute(status -> {
+                revenueService.addTickets(tickets);
+                passengerService.addTickets(tickets);
+                ticketRepository.saveAll(tickets);
+
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        routeService.addTickets(tickets);
+                        departureBoardService.addTickets(tickets);
+                    }
+                });
+
+            return null;
+        });
+    }
+
+    private static RuntimeException failure(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (e instanceof ExecutionException && e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+
+        return new IllegalStateException("Booking was not written", e);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private enum State {
+        QUEUED, WITHDRAWN, WRITING, WRITTEN, FAILED
+    }
+
+    private static class Booking {
+
+        private final Ticket ticket;
+        private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        private Booking(Ticket ticket) {
+            this.ticket = ticket;
+        }
+
+        private void written() {
+            state.set(State.WRITTEN);
+            written.complete(null);
+        }
+
+        private void failed(RuntimeException e) {
+            state.set(State.FAILED);
+            written.completeExceptionally(e);
+        }
+    }
+}
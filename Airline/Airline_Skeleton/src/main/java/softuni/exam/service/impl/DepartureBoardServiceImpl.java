@@ -0,0 +1,108 @@
+package softuni.exam.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import softuni.exam.models.dto.view.DepartureViewDto;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.models.entity.Town;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.DepartureBoardService;
+import softuni.exam.util.DepartureIndex;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+public class DepartureBoardServiceImpl implements DepartureBoardService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DepartureBoardServiceImpl.class);
+
+    private final TicketRepository ticketRepository;
+    private final TownRepository townRepository;
+    private final int indexHours;
+    private final Object indexLock = new Object();
+    private volatile DepartureIndex index;
+
+    public DepartureBoardServiceImpl(TicketRepository ticketRepository, TownRepository townRepository,
+                                     @Value("${departures.index-hours}") int indexHours) {
+        this.ticketRepository = ticketRepository;
+        this.townRepository = townRepository;
+        this.indexHours = indexHours;
+    }
+
+    @Override
+    public List<DepartureViewDto> getDepartures(String fromTown, LocalDateTime from, LocalDateTime until, LocalDateTime afterTakeoff, Long afterId, int size) {
+        Town town = townRepository.findByName(fromTown);
+
+        if (town == null) {
+            return Collections.emptyList();
+        }
+
+        boolean resume = afterTakeoff != null && afterId != null && !afterTakeoff.isBefore(from);
+        LocalDateTime cursorTakeoff = resume ? afterTakeoff : from;
+        long cursorId = resume ? afterId : 0;
+
+        DepartureIndex current = index(LocalDateTime.now());
+
+        if (current.covers(from, until)) {
+            return current.find(town.getName(), cursorTakeoff, cursorId, until, size);
+        }
+
+        return ticketRepository.findDeparturesAfter(town, cursorTakeoff, cursorId, until, PageRequest.of(0, size));
+    }
+
+    @Override
+    public void addTickets(Collection<Ticket> tickets) {
+        List<DepartureViewDto> departures = tickets.stream()
+                .filter(ticket -> ticket.getId() != null && ticket.getFromTown() != null && ticket.getTakeoff() != null)
+                .map(ticket -> new DepartureViewDto(ticket.getId(), ticket.getSerialNumber(), ticket.getFromTown().getName(),
+                        ticket.getToTown() == null ? null : ticket.getToTown().getName(), ticket.getTakeoff(), ticket.getPrice(),
+                        ticket.getPlane() == null ? null : ticket.getPlane().getRegisterNumber()))
+                .collect(Collectors.toList());
+
+        synchronized (indexLock) {
+            if (index != null) {
+                index = index.with(departures);
+            }
+        }
+    }
+
+    // Covers the current hour plus the next index-hours, so a board for the coming day never has to go to the database;
+    // rebuilt on first use and again whenever the clock enters a new hour
+    private DepartureIndex index(LocalDateTime now) {
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        DepartureIndex current = index;
+
+        if (current == null || current.getWindowStart().isBefore(hour)) {
+            synchronized (indexLock) {
+                if (index == null || index.getWindowStart().isBefore(hour)) {
+                    index = load(hour);
+                }
+
+                current = index;
+            }
+        }
+
+        return current;
+    }
+
+    private DepartureIndex load(LocalDateTime hour) {
+        long start = System.nanoTime();
+        LocalDateTime until = hour.plusHours(indexHours + 1);
+        DepartureIndex loaded = DepartureIndex.build(hour, indexHours + 1, ticketRepository.findAllDeparturesBetween(hour, until));
+
+        LOGGER.info("Built departure index for {} to {} with {} departures in {} ms", hour, until, loaded.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        return loaded;
+    }
+}
@@ -0,0 +1,303 @@
+package softuni.exam.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import softuni.exam.models.dto.view.ImportJobStatus;
+import softuni.exam.models.dto.view.ImportJobViewDto;
+import softuni.exam.service.ImportJobService;
+import softuni.exam.util.ImportProgress;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportJobServiceImpl.class);
+    private static final long PROGRESS_INTERVAL_MILLIS = 1000;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService progressPublisher = Executors.newSingleThreadScheduledExecutor(namedThreads("import-job-progress-"));
+    private final Map<String, ImportJob> jobs;
+
+    public ImportJobServiceImpl(@Value("${import.jobs.concurrency}") int concurrency,
+                                @Value("${import.jobs.queue-capacity}") int queueCapacity,
+                                @Value("${import.jobs.retained}") int retained) {
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreads("import-job-"));
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<String, ImportJob>() {
+            // Evicts the oldest finished jobs rather than only the eldest one, which may still be running. Jobs that are
+            // queued or running are never evicted, and there are at most concurrency plus queue-capacity of them
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+                Iterator<ImportJob> iterator = values().iterator();
+
+                while (size() > retained && iterator.hasNext()) {
+                    if (iterator.next().isFinished()) {
+                        iterator.remove();
+                    }
+                }
+
+                return false;
+            }
+        });
+
+        progressPublisher.scheduleAtFixedRate(this::publishProgress, PROGRESS_INTERVAL_MILLIS, PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ImportJobViewDto submit(String entity, Callable<String> importTask) {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), entity);
+        jobs.put(job.id, job);
+
+        try {
+            job.future = executor.submit(() -> run(job, importTask));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+
+        return job.view();
+    }
+
+    @Override
+    public Optional<ImportJobViewDto> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::view);
+    }
+
+    @Override
+    public Optional<String> getReport(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::getReport);
+    }
+
+    @Override
+    public Optional<ImportJobViewDto> cancel(String id) {
+        ImportJob job = jobs.get(id);
+
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        if (job.requestCancel()) {
+            Future<?> future = job.future;
+
+            if (future != null) {
+                future.cancel(true);
+            }
+
+            if (job.isFinished()) {
+                publishFinished(job);
+            }
+        }
+
+        return Optional.of(job.view());
+    }
+
+    @Override
+    public boolean subscribe(String id, Consumer<ImportJobViewDto> listener) {
+        ImportJob job = jobs.get(id);
+
+        if (job == null) {
+            return false;
+        }
+
+        job.listeners.add(listener);
+
+        if (job.isFinished()) {
+            publishFinished(job);
+        } else {
+            notify(job, listener, job.view());
+        }
+
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        progressPublisher.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Callable<String> importTask) {
+        if (!job.start()) {
+            return;
+        }
+
+        ImportProgress.bind(job.progress);
+
+        try {
+            String report = importTask.call();
+            job.finish(ImportJobStatus.SUCCEEDED, report, null);
+        } catch (Exception e) {
+            if (job.isCancelRequested()) {
+                job.finish(ImportJobStatus.CANCELLED, null, null);
+            } else {
+                LOGGER.error("Import job {} ({}) failed", job.id, job.entity, e);
+                job.finish(ImportJobStatus.FAILED, null, e.toString());
+            }
+        } finally {
+            ImportProgress.unbind();
+        }
+
+        ImportJobViewDto view = job.view();
+        LOGGER.info("Import job {} ({}) {} after {} records in {} ms",
+                job.id, job.entity, view.getStatus(), view.getRecordsDone(), view.getElapsedMillis());
+
+        publishFinished(job);
+    }
+
+    private void publishProgress() {
+        List<ImportJob> running;
+
+        synchronized (jobs) {
+            running = new ArrayList<>(jobs.values());
+        }
+
+        for (ImportJob job : running) {
+            if (!job.listeners.isEmpty() && !job.isFinished()) {
+                ImportJobViewDto view = job.view();
+                job.listeners.forEach(listener -> notify(job, listener, view));
+            }
+        }
+    }
+
+    private void publishFinished(ImportJob job) {
+        ImportJobViewDto view = job.view();
+
+        for (Consumer<ImportJobViewDto> listener : job.listeners) {
+            if (job.listeners.remove(listener)) {
+                notify(job, listener, view);
+            }
+        }
+    }
+
+    private static void notify(ImportJob job, Consumer<ImportJobViewDto> listener, ImportJobViewDto view) {
+        try {
+            listener.accept(view);
+        } catch (RuntimeException e) {
+            job.listeners.remove(listener);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    private static class ImportJob {
+
+        private final String id;
+        private final String entity;
+        private final ImportProgress progress = new ImportProgress();
+        private final List<Consumer<ImportJobViewDto>> listeners = new CopyOnWriteArrayList<>();
+        private volatile Future<?> future;
+
+        private ImportJobStatus status = ImportJobStatus.QUEUED;
+        private boolean cancelRequested;
+        private long startNanos;
+        private long finishNanos;
+        private String report;
+        private String error;
+
+        private ImportJob(String id, String entity) {
+            this.id = id;
+            this.entity = entity;
+        }
+
+        private synchronized boolean start() {
+            if (status != ImportJobStatus.QUEUED) {
+                return false;
+            }
+
+            status = ImportJobStatus.RUNNING;
+            startNanos = System.nanoTime();
+
+            return true;
+        }
+
+        private synchronized void finish(ImportJobStatus status, String report, String error) {
+            if (isFinished()) {
+                return;
+            }
+
+            if (this.status == ImportJobStatus.QUEUED) {
+                startNanos = System.nanoTime();
+            }
+
+            this.status = status;
+            this.report = report;
+            this.error = error;
+            this.finishNanos = System.nanoTime();
+        }
+
+        private synchronized boolean requestCancel() {
+            if (isFinished()) {
+                return false;
+            }
+
+            cancelRequested = true;
+
+            if (status == ImportJobStatus.QUEUED) {
+                finish(ImportJobStatus.CANCELLED, null, null);
+            }
+
+            return true;
+        }
+
+        private synchronized boolean isCancelRequested() {
+            return cancelRequested;
+        }
+
+        private synchronized boolean isFinished() {
+            return status == ImportJobStatus.SUCCEEDED || status == ImportJobStatus.FAILED || status == ImportJobStatus.CANCELLED;
+        }
+
+        private synchronized String getReport() {
+            return report;
+        }
+
+        private synchronized ImportJobViewDto view() {
+            long bytesRead = progress.getBytesRead();
+            long totalBytes = progress.getTotalBytes();
+            long elapsedMillis = status == ImportJobStatus.QUEUED ? 0
+                    : TimeUnit.NANOSECONDS.toMillis((isFinished() ? finishNanos : System.nanoTime()) - startNanos);
+
+            Long etaMillis = null;
+            if (isFinished()) {
+                etaMillis = 0L;
+            } else if (status == ImportJobStatus.RUNNING && bytesRead > 0 && totalBytes >= bytesRead) {
+                etaMillis = elapsedMillis * (totalBytes - bytesRead) / bytesRead;
+            }
+
+            return new ImportJobViewDto(id, entity, status, progress.getRecordsDone(), bytesRead, totalBytes,
+                    elapsedMillis, etaMillis, error);
+        }
+    }
+}
@@ -1,71 +1,109 @@
 package softuni.exam.service.impl;
 
-import com.google.gson.Gson;
 import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import softuni.exam.models.dto.json.PassengerSeedDto;
+import softuni.exam.models.dto.view.PassengerTicketsCountViewDto;
 import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Ticket;
 import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.TicketRepository;
 import softuni.exam.service.PassengerService;
 import softuni.exam.service.TownService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportCheckpoints;
+import softuni.exam.util.ImportCursor;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
+import softuni.exam.util.JsonParser;
 import softuni.exam.util.ValidationUtil;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class PassengerServiceImpl implements PassengerService {
 
-    private static final String PASSENGERS_FILE_PATH = "src/main/resources/files/json/passengers.json";
+    private static final Logger LOGGER = LoggerFactory.getLogger(PassengerServiceImpl.class);
+
+    private static final String PASSENGERS_FILE = "json/passengers.json";
+    private static final String PASSENGER_TICKETS_COUNT_FORMAT = "Passenger %s  %s\n" +
+            "\tEmail - %s\n" +
+            "Phone - %s\n" +
+            "\tNumber of tickets - %d\n";
 
     private final PassengerRepository passengerRepository;
+    private final TicketRepository ticketRepository;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
-    private final Gson gson;
+    private final JsonParser jsonParser;
     private final TownService townService;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final ImportCheckpoints importCheckpoints;
+    private final String passengersFilePath;
 
-    public PassengerServiceImpl(PassengerRepository passengerRepository, ModelMapper modelMapper, ValidationUtil validationUtil, Gson gson, TownService townService) {
+    public PassengerServiceImpl(PassengerRepository passengerRepository, TicketRepository ticketRepository, ModelMapper modelMapper, ValidationUtil validationUtil, JsonParser jsonParser, TownService townService, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ImportCheckpoints importCheckpoints, @Value("${import.files-dir}") String filesDir) {
         this.passengerRepository = passengerRepository;
+        this.ticketRepository = ticketRepository;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
-        this.gson = gson;
+        this.jsonParser = jsonParser;
         this.townService = townService;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.importCheckpoints = importCheckpoints;
+        this.passengersFilePath = Path.of(filesDir, PASSENGERS_FILE).toString();
     }
 
     @Override
     public boolean areImported() {
-        return passengerRepository.count() > 0;
+        return passengerRepository.count() > 0 && !importCheckpoints.isPending(passengersFilePath);
     }
 
     @Override
     public String readPassengersFileContent() throws IOException {
-        return Files.readString(Path.of(PASSENGERS_FILE_PATH));
+        return Files.readString(Path.of(passengersFilePath));
     }
 
     @Override
     public String importPassengers() throws IOException {
-        StringBuilder result = new StringBuilder();
-
-        Arrays.stream(gson.fromJson(readPassengersFileContent(), PassengerSeedDto[].class))
-                .filter(passengerSeedDto -> {
-                    boolean isValid = validationUtil.isValid(passengerSeedDto);
-
-                    result.append(isValid ? String.format("Successfully imported Passenger %s - %s",
-                            passengerSeedDto.getLastName(), passengerSeedDto.getEmail())
-                            : "Invalid passenger").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(passengerSeedDto -> {
-                    Passenger passenger = modelMapper.map(passengerSeedDto, Passenger.class);
-                    passenger.setTown(townService.getTownByName(passengerSeedDto.getTown()));
-
-                    return passenger;
-                })
-                .forEach(passengerRepository::save);
-
-        return result.toString().trim();
+        try (ImportCursor cursor = importCheckpoints.open(passengersFilePath);
+             Stream<PassengerSeedDto> passengerSeedDtos = jsonParser.stream(passengersFilePath, PassengerSeedDto.class)) {
+            return importPipeline.run(Passenger.class, passengerSeedDtos, passengerSeedDto -> {
+                if (!importMetrics.time(Passenger.class, ImportStage.VALIDATE, () -> validationUtil.isValid(passengerSeedDto))) {
+                    return ImportRecord.<Passenger>rejected("Invalid passenger");
+                }
+
+                Passenger passenger = importMetrics.time(Passenger.class, ImportStage.MAP, () -> modelMapper.map(passengerSeedDto, Passenger.class));
+                passenger.setTown(importMetrics.time(Passenger.class, ImportStage.RESOLVE, () -> townService.getTownByName(passengerSeedDto.getTown())));
+
+                return ImportRecord.imported(passenger,
+                        String.format("Successfully imported Passenger %s - %s", passengerSeedDto.getLastName(), passengerSeedDto.getEmail()));
+            }, passengers -> chunkedSaver.saveAll(passengers, passengerRepository)).trim();
+        }
     }
 
     @Override
@@ -79,14 +117,78 @@ public class PassengerServiceImpl implements PassengerService {
 
         passengerRepository.findAllPassengersByTicketCountDescThenByEmail()
                 .forEach(passenger -> {
-                    result.append(String.format("Passenger %s  %s\n" +
-                            "\tEmail - %s\n" +
-                            "Phone - %s\n" +
-                            "\tNumber of tickets - %d\n",
-                            passenger.getFirstName(), passenger.getLastName()
-                    , passenger.getEmail(), passenger.getPhoneNumber(), passenger.getTickets().size()));
+                    result.append(String.format(PASSENGER_TICKETS_COUNT_FORMAT,
+                            passenger.getFirstName(), passenger.getLastName(),
+                            passenger.getEmail(), passenger.getPhoneNumber(), passenger.getTicketsCount()));
                 });
 
         return result.toString().trim();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writePassengersOrderByTicketsCountDescendingThenByEmail(Writer writer) throws IOException {
+        try (Stream<PassengerTicketsCountViewDto> passengers = passengerRepository.streamAllPassengersByTicketCountDescThenByEmail()) {
+            Iterator<PassengerTicketsCountViewDto> iterator = passengers.iterator();
+
+            while (iterator.hasNext()) {
+                PassengerTicketsCountViewDto passenger = iterator.next();
+
+                writer.write(String.format(PASSENGER_TICKETS_COUNT_FORMAT,
+                        passenger.getFirstName(), passenger.getLastName(),
+                        passenger.getEmail(), passenger.getPhoneNumber(), passenger.getTicketsCount()));
+            }
+        }
+
+        writer.flush();
+    }
+
+    @Override
+    public List<PassengerTicketsCountViewDto> getPassengersOrderByTicketsCountDescendingThenByEmailPage(Long afterTicketsCount, String afterEmail, int size) {
+        PageRequest page = PageRequest.of(0, size);
+
+        if (afterTicketsCount == null || afterEmail == null) {
+            return passengerRepository.findAllPassengersByTicketCountDescThenByEmail(page);
+        }
+
+        return passengerRepository.findAllPassengersByTicketCountDescThenByEmailAfter(afterTicketsCount, afterEmail, page);
+    }
+
+    // Runs in the transaction that saves the tickets, before they are saved, so every changed ticket still names its old
+    // passenger. Passengers with the same delta are moved by one statement, which keeps a chunk down to a few updates
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTickets(Collection<Ticket> tickets) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        List<Long> changedIds = tickets.stream()
+                .map(Ticket::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (!changedIds.isEmpty()) {
+            ticketRepository.findAllPassengerIdsByIdIn(changedIds).forEach(previous -> deltas.merge(previous, -1, Integer::sum));
+        }
+
+        tickets.stream()
+                .filter(ticket -> ticket.getPassenger() != null && ticket.getPassenger().getId() != null)
+                .forEach(ticket -> deltas.merge(ticket.getPassenger().getId(), 1, Integer::sum));
+
+        deltas.values().removeIf(delta -> delta == 0);
+
+        deltas.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toCollection(TreeSet::new))))
+                .forEach((delta, passengerIds) -> passengerRepository.addTickets(passengerIds, delta));
+    }
+
+    // One-off backfill for a database created before the counter existed, or one whose tickets were removed behind the
+    // service's back. It rewrites every passenger row, so it only runs when asked; imports and bookings move the counter
+    @Override
+    @Transactional
+    public void recountTickets() {
+        long start = System.nanoTime();
+        int passengers = passengerRepository.recountTickets();
+
+        LOGGER.info("Recounted tickets of {} passengers in {} ms", passengers, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
 }
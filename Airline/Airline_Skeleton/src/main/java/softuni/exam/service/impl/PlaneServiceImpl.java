@@ -1,70 +1,94 @@
 package softuni.exam.service.impl;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import softuni.exam.models.dto.xml.PlaneRootSeedDto;
 import softuni.exam.models.entity.Plane;
 import softuni.exam.repository.PlaneRepository;
 import softuni.exam.service.PlaneService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportCheckpoints;
+import softuni.exam.util.ImportCursor;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
+import softuni.exam.util.Upserter;
 import softuni.exam.util.ValidationUtil;
 import softuni.exam.util.XmlParser;
 
 import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 @Service
 public class PlaneServiceImpl implements PlaneService {
 
-    private static final String PLANES_FILE_PATH = "src/main/resources/files/xml/planes.xml";
+    private static final String PLANES_FILE = "xml/planes.xml";
 
     private final PlaneRepository planeRepository;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
     private final XmlParser xmlParser;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final ImportCheckpoints importCheckpoints;
+    private final Upserter upserter;
+    private final String planesFilePath;
 
-    public PlaneServiceImpl(PlaneRepository planeRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser) {
+    public PlaneServiceImpl(PlaneRepository planeRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ImportCheckpoints importCheckpoints, Upserter upserter, @Value("${import.files-dir}") String filesDir) {
         this.planeRepository = planeRepository;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
         this.xmlParser = xmlParser;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.importCheckpoints = importCheckpoints;
+        this.upserter = upserter;
+        this.planesFilePath = Path.of(filesDir, PLANES_FILE).toString();
     }
 
     @Override
     public boolean areImported() {
-        return planeRepository.count() > 0;
+        return planeRepository.count() > 0 && !importCheckpoints.isPending(planesFilePath);
     }
 
     @Override
     public String readPlanesFileContent() throws IOException {
-        return Files.readString(Path.of(PLANES_FILE_PATH));
+        return Files.readString(Path.of(planesFilePath));
     }
 
     @Override
-    public String importPlanes() throws JAXBException, FileNotFoundException {
-        StringBuilder result = new StringBuilder();
+    public String importPlanes() throws JAXBException, IOException {
+        try (ImportCursor cursor = importCheckpoints.open(planesFilePath)) {
+            long parseStart = System.nanoTime();
+            PlaneRootSeedDto planeRootSeedDto = xmlParser.fromFile(planesFilePath, PlaneRootSeedDto.class);
+            importMetrics.record(Plane.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-        xmlParser.fromFile(PLANES_FILE_PATH, PlaneRootSeedDto.class)
-                .getPlanes()
-                .stream()
-                .filter(planeSeedDto -> {
-                    boolean isValid = validationUtil.isValid(planeSeedDto);
+            return importPipeline.run(Plane.class, planeRootSeedDto.getPlanes().stream(), planeSeedDto -> {
+                if (!importMetrics.time(Plane.class, ImportStage.VALIDATE, () -> validationUtil.isValid(planeSeedDto))) {
+                    return ImportRecord.<Plane>rejected("Invalid Plane");
+                }
 
-                    result.append(isValid ? String.format("Successfully imported Plane %s",
-                            planeSeedDto.getRegisterNumber())
-                            : "Invalid Plane").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(planeSeedDto -> modelMapper.map(planeSeedDto, Plane.class))
-                .forEach(planeRepository::save);
-
-        return result.toString().trim();
+                return ImportRecord.imported(importMetrics.time(Plane.class, ImportStage.MAP, () -> modelMapper.map(planeSeedDto, Plane.class)),
+                        String.format("Successfully imported Plane %s", planeSeedDto.getRegisterNumber()));
+            }, planes -> chunkedSaver.saveAll(planes,
+                    chunk -> upserter.changed(Plane.class, "registerNumber", chunk, Plane::getRegisterNumber, PlaneServiceImpl::content), planeRepository)).trim();
+        }
     }
 
     @Override
     public Plane getPlaneByRegisterNumber(String regNumber) {
         return planeRepository.findByRegisterNumber(regNumber);
     }
+
+    private static List<?> content(Plane plane) {
+        return Arrays.asList(plane.getRegisterNumber(), plane.getCapacity(), plane.getAirline());
+    }
 }
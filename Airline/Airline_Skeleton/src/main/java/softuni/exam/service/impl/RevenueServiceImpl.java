@@ -0,0 +1,257 @@
+package softuni.exam.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import softuni.exam.models.dto.view.RouteRevenueViewDto;
+import softuni.exam.models.entity.RouteRevenue;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.models.entity.Town;
+import softuni.exam.repository.RouteRevenueRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.RevenueService;
+import softuni.exam.util.TicketRevenue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class RevenueServiceImpl implements RevenueService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RevenueServiceImpl.class);
+    private static final int CREATE_GROUP_ATTEMPTS = 3;
+
+    private final RouteRevenueRepository routeRevenueRepository;
+    private final TicketRepository ticketRepository;
+    private final TownRepository townRepository;
+    private final TransactionTemplate newTransaction;
+    private final ReadWriteLock rollupLock = new ReentrantReadWriteLock(true);
+
+    public RevenueServiceImpl(RouteRevenueRepository routeRevenueRepository, TicketRepository ticketRepository, TownRepository townRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.routeRevenueRepository = routeRevenueRepository;
+        this.ticketRepository = ticketRepository;
+        this.townRepository = townRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<RouteRevenueViewDto> getRevenue(String fromTown, String toTown, String airline, LocalDate since, LocalDate until) {
+        Town from = townRepository.findByName(fromTown);
+        Town to = townRepository.findByName(toTown);
+
+        if (from == null || to == null) {
+            return Collections.emptyList();
+        }
+
+        return routeRevenueRepository.findAllByRouteAndAirlineBetween(from, to, airline, since, until);
+    }
+
+    // Runs in the import chunk's or booking batch's transaction, before the tickets are saved, so the previous version of
+    // every changed ticket is still in the table and its contribution can be taken out of its old group. Groups move by
+    // in-place increments applied in a fixed order, so concurrent writers neither lose updates nor deadlock on each other
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTickets(Collection<Ticket> tickets) {
+        holdUntilCompletion(rollupLock.readLock());
+
+        Map<Group, RouteRevenue> deltas = new TreeMap<>(Group.ORDER);
+        List<Long> changedIds = tickets.stream()
+                .map(Ticket::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (!changedIds.isEmpty()) {
+            ticketRepository.findAllRevenueByIdIn(changedIds).stream()
+                    .filter(TicketRevenue::isRolledUp)
+                    .forEach(previous -> add(deltas.computeIfAbsent(Group.of(previous), this::newRow), previous.getPrice().negate(), -1));
+        }
+
+        tickets.stream()
+                .map(TicketRevenue::of)
+                .filter(TicketRevenue::isRolledUp)
+                .forEach(revenue -> add(deltas.computeIfAbsent(Group.of(revenue), this::newRow), revenue.getPrice(), 1));
+
+        deltas.values().removeIf(delta -> delta.getTickets() == 0 && delta.getRevenue().signum() == 0);
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        createMissingGroups(deltas.entrySet().stream()
+                .filter(entry -> entry.getValue().getTickets() > 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList()));
+
+        deltas.forEach((group, delta) -> {
+            int updated = routeRevenueRepository.addToGroup(group.fromTownId, group.toTownId, group.airline, group.day,
+                    delta.getRevenue(), delta.getTickets());
+
+            if (updated == 0 && delta.getTickets() > 0) {
+                throw new IllegalStateException("Revenue group was removed while tickets were added to it");
+            }
+
+            if (delta.getTickets() < 0) {
+                routeRevenueRepository.deleteGroupIfEmpty(group.fromTownId, group.toTownId, group.airline, group.day);
+            }
+        });
+    }
+
+    // Backfill: recomputes every group from the tickets table and swaps the rollup contents in one transaction. Waits for
+    // every transaction that is adding tickets to the rollup and holds new ones back until it commits
+    @Override
+    @Transactional
+    public void rebuild() {
+        holdUntilCompletion(rollupLock.writeLock());
+
+        long start = System.nanoTime();
+        Map<Group, RouteRevenue> rows = new HashMap<>();
+
+        try (Stream<TicketRevenue> revenues = ticketRepository.streamAllRevenue()) {
+            revenues.filter(TicketRevenue::isRolledUp)
+                    .forEach(revenue -> add(rows.computeIfAbsent(Group.of(revenue), this::newRow), revenue.getPrice(), 1));
+        }
+
+        routeRevenueRepository.deleteAllInBatch();
+        routeRevenueRepository.saveAll(rows.values());
+
+        LOGGER.info("Rebuilt {} revenue rollups in {} ms", rows.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    // New groups are inserted empty and committed on their own before anything is added to them, so two writers creating
+    // the same group meet on the unique key here instead of one of them failing its whole chunk at commit
+    private void createMissingGroups(List<Group> groups) {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        Set<LocalDate> days = groups.stream().map(group -> group.day).collect(Collectors.toSet());
+        Set<Long> fromTownIds = groups.stream().map(group -> group.fromTownId).collect(Collectors.toSet());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                newTransaction.execute(status -> {
+                    Set<Group> existing = routeRevenueRepository.findAllByDayInAndFromTownIdIn(days, fromTownIds).stream()
+                            .map(Group::of)
+                            .collect(Collectors.toSet());
+
+                    routeRevenueRepository.saveAll(groups.stream()
+                            .filter(group -> !existing.contains(group))
+                            .map(this::newRow)
+                            .collect(Collectors.toList()));
+                    routeRevenueRepository.flush();
+
+                    return null;
+                });
+
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == CREATE_GROUP_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private RouteRevenue newRow(Group group) {
+        RouteRevenue row = new RouteRevenue();
+        row.setFromTown(townRepository.getOne(group.fromTownId));
+        row.setToTown(townRepository.getOne(group.toTownId));
+        row.setAirline(group.airline);
+        row.setDay(group.day);
+        row.setRevenue(BigDecimal.ZERO);
+        row.setTickets(0L);
+
+        return row;
+    }
+
+    private static void add(RouteRevenue row, BigDecimal revenue, long tickets) {
+        row.setRevenue(row.getRevenue().add(revenue));
+        row.setTickets(row.getTickets() + tickets);
+    }
+
+    private static void holdUntilCompletion(Lock lock) {
+        lock.lock();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    private static final class Group {
+
+        private static final Comparator<Group> ORDER = Comparator.<Group, Long>comparing(group -> group.fromTownId)
+                .thenComparing(group -> group.toTownId)
+                .thenComparing(group -> group.airline)
+                .thenComparing(group -> group.day);
+
+        private final Long fromTownId;
+        private final Long toTownId;
+        private final String airline;
+        private final LocalDate day;
+
+        private Group(Long fromTownId, Long toTownId, String airline, LocalDate day) {
+            this.fromTownId = fromTownId;
+            this.toTownId = toTownId;
+            this.airline = airline;
+            this.day = day;
+        }
+
+        private static Group of(TicketRevenue revenue) {
+            return new Group(revenue.getFromTownId(), revenue.getToTownId(), revenue.getAirline(), revenue.getDay());
+        }
+
+        private static Group of(RouteRevenue row) {
+            return new Group(row.getFromTown().getId(), row.getToTown().getId(), row.getAirline(), row.getDay());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Group group = (Group) o;
+
+            return fromTownId.equals(group.fromTownId) && toTownId.equals(group.toTownId)
+                    && Objects.equals(airline, group.airline) && day.equals(group.day);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fromTownId, toTownId, airline, day);
+        }
+    }
+}
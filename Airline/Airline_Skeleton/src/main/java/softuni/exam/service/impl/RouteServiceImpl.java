@@ -0,0 +1,151 @@
+package softuni.exam.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import softuni.exam.models.dto.view.ItineraryLegViewDto;
+import softuni.exam.models.dto.view.ItineraryViewDto;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.models.entity.Town;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.RouteService;
+import softuni.exam.util.RouteCriteria;
+import softuni.exam.util.RouteEdge;
+import softuni.exam.util.RouteGraph;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+public class RouteServiceImpl implements RouteService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RouteServiceImpl.class);
+    private static final int MIN_PENDING_EDGES = 4096;
+
+    private final TicketRepository ticketRepository;
+    private final TownRepository townRepository;
+    private final Object graphLock = new Object();
+    // Tickets committed since the graph was last merged, by ticket id. Merging copies the whole graph, so it waits until
+    // they outnumber the graph's own edges or a search needs them, instead of running once per saved chunk
+    private final Map<Long, RouteEdge> pendingEdges = new LinkedHashMap<>();
+    private volatile boolean hasPendingEdges;
+    private volatile RouteGraph graph;
+
+    public RouteServiceImpl(TicketRepository ticketRepository, TownRepository townRepository) {
+        this.ticketRepository = ticketRepository;
+        this.townRepository = townRepository;
+    }
+
+    @Override
+    public ItineraryViewDto findItinerary(String fromTown, String toTown, RouteCriteria criteria, LocalDateTime departAfter, Duration minConnection) {
+        Town from = townRepository.findByName(fromTown);
+        Town to = townRepository.findByName(toTown);
+
+        if (from == null || to == null) {
+            return null;
+        }
+
+        long earliest = departAfter == null ? Long.MIN_VALUE : RouteEdge.toEpochSecond(departAfter);
+        List<RouteEdge> legs = graph().plan(from.getId(), to.getId(), earliest, minConnection.getSeconds(), criteria);
+
+        if (legs.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, String> townNames = new HashMap<>();
+        townNames.put(from.getId(), from.getName());
+        townNames.put(to.getId(), to.getName());
+
+        List<ItineraryLegViewDto> legViews = legs.stream()
+                .map(leg -> new ItineraryLegViewDto(leg.getTicketId(),
+                        townNames.computeIfAbsent(leg.getFromTownId(), this::townName),
+                        townNames.computeIfAbsent(leg.getToTownId(), this::townName),
+                        leg.getTakeoffTime(), leg.getPriceAmount()))
+                .collect(Collectors.toList());
+        BigDecimal totalPrice = legViews.stream()
+                .map(ItineraryLegViewDto::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new ItineraryViewDto(from.getName(), to.getName(), legViews.size(), totalPrice, legViews);
+    }
+
+    @Override
+    public void addTickets(Collection<Ticket> tickets) {
+        List<RouteEdge> edges = tickets.stream()
+                .filter(ticket -> ticket.getId() != null && ticket.getFromTown() != null && ticket.getToTown() != null
+                        && ticket.getTakeoff() != null && ticket.getPrice() != null)
+                .map(ticket -> new RouteEdge(ticket.getId(), ticket.getFromTown().getId(), ticket.getToTown().getId(),
+                        ticket.getTakeoff(), ticket.getPrice()))
+                .collect(Collectors.toList());
+
+        synchronized (graphLock) {
+            if (graph == null) {
+                return;
+            }
+
+            edges.forEach(edge -> pendingEdges.put(edge.getTicketId(), edge));
+            hasPendingEdges = !pendingEdges.isEmpty();
+
+            if (pendingEdges.size() >= Math.max(MIN_PENDING_EDGES, graph.getEdgeCount())) {
+                mergePendingEdges();
+            }
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        synchronized (graphLock) {
+            graph = load();
+            pendingEdges.clear();
+            hasPendingEdges = false;
+        }
+    }
+
+    // Built on first use; until then committed tickets are picked up by the initial load instead of incremental updates
+    private RouteGraph graph() {
+        RouteGraph current = graph;
+
+        if (current == null || hasPendingEdges) {
+            synchronized (graphLock) {
+                if (graph == null) {
+                    graph = load();
+                } else if (hasPendingEdges) {
+                    mergePendingEdges();
+                }
+
+                current = graph;
+            }
+        }
+
+        return current;
+    }
+
+    private void mergePendingEdges() {
+        graph = graph.with(pendingEdges.values());
+        pendingEdges.clear();
+        hasPendingEdges = false;
+    }
+
+    private RouteGraph load() {
+        long start = System.nanoTime();
+        RouteGraph loaded = RouteGraph.empty().with(ticketRepository.findAllRouteEdges());
+
+        LOGGER.info("Built route graph with {} towns and {} tickets in {} ms", loaded.getTownCount(), loaded.getEdgeCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        return loaded;
+    }
+
+    private String townName(Long townId) {
+        return townRepository.findById(townId).map(Town::getName).orElse(null);
+    }
+}
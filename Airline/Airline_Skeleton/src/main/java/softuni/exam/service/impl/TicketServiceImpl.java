@@ -1,82 +1,161 @@
 package softuni.exam.service.impl;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import softuni.exam.models.dto.xml.TicketRootSeedDto;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import softuni.exam.models.dto.xml.TicketSeedDto;
+import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Plane;
 import softuni.exam.models.entity.Ticket;
+import softuni.exam.models.entity.Town;
 import softuni.exam.repository.TicketRepository;
+import softuni.exam.service.DepartureBoardService;
 import softuni.exam.service.PassengerService;
-import softuni.exam.service.PlaneService;
+import softuni.exam.service.RevenueService;
+import softuni.exam.service.RouteService;
 import softuni.exam.service.TicketService;
-import softuni.exam.service.TownService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportCheckpoints;
+import softuni.exam.util.ImportCursor;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
+import softuni.exam.util.ReferenceResolver;
+import softuni.exam.util.ReferenceResolverFactory;
+import softuni.exam.util.SeatInventory;
+import softuni.exam.util.Upserter;
 import softuni.exam.util.ValidationUtil;
 import softuni.exam.util.XmlParser;
 
 import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TicketServiceImpl implements TicketService {
 
-    private static final String TICKETS_FILE_PATH = "src/main/resources/files/xml/tickets.xml";
+    private static final String TICKETS_FILE = "xml/tickets.xml";
+    private static final String TICKET_ELEMENT = "ticket";
 
     private final TicketRepository ticketRepository;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
     private final XmlParser xmlParser;
-    private final TownService townService;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final ImportCheckpoints importCheckpoints;
+    private final Upserter upserter;
+    private final ReferenceResolverFactory referenceResolverFactory;
+    private final RouteService routeService;
+    private final DepartureBoardService departureBoardService;
+    private final RevenueService revenueService;
+    private final SeatInventory seatInventory;
     private final PassengerService passengerService;
-    private final PlaneService planeService;
+    private final String ticketsFilePath;
 
-    public TicketServiceImpl(TicketRepository ticketRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, TownService townService, PassengerService passengerService, PlaneService planeService) {
+    public TicketServiceImpl(TicketRepository ticketRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ReferenceResolverFactory referenceResolverFactory, ImportCheckpoints importCheckpoints, Upserter upserter, RouteService routeService, DepartureBoardService departureBoardService, RevenueService revenueService, SeatInventory seatInventory, PassengerService passengerService, @Value("${import.files-dir}") String filesDir) {
         this.ticketRepository = ticketRepository;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
         this.xmlParser = xmlParser;
-        this.townService = townService;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.importCheckpoints = importCheckpoints;
+        this.upserter = upserter;
+        this.referenceResolverFactory = referenceResolverFactory;
+        this.routeService = routeService;
+        this.departureBoardService = departureBoardService;
+        this.revenueService = revenueService;
+        this.seatInventory = seatInventory;
         this.passengerService = passengerService;
-        this.planeService = planeService;
+        this.ticketsFilePath = Path.of(filesDir, TICKETS_FILE).toString();
     }
 
     @Override
     public boolean areImported() {
-        return ticketRepository.count() > 0;
+        return ticketRepository.count() > 0 && !importCheckpoints.isPending(ticketsFilePath);
     }
 
     @Override
     public String readTicketsFileContent() throws IOException {
-        return Files.readString(Path.of(TICKETS_FILE_PATH));
+        return Files.readString(Path.of(ticketsFilePath));
     }
 
     @Override
-    public String importTickets() throws JAXBException, FileNotFoundException {
-        StringBuilder result = new StringBuilder();
+    public String importTickets() throws JAXBException, IOException {
+        ReferenceResolver<Town> towns = referenceResolverFactory.create(Town.class, "name");
+        ReferenceResolver<Passenger> passengers = referenceResolverFactory.create(Passenger.class, "email");
+        ReferenceResolver<Plane> planes = referenceResolverFactory.create(Plane.class, "registerNumber");
 
-        xmlParser.fromFile(TICKETS_FILE_PATH, TicketRootSeedDto.class)
-                .getTickets()
-                .stream()
-                .filter(ticketSeedDto -> {
-                    boolean isValid = validationUtil.isValid(ticketSeedDto);
+        try (ImportCursor cursor = importCheckpoints.open(ticketsFilePath);
+             Stream<TicketSeedDto> ticketSeedDtos = xmlParser.stream(ticketsFilePath, TICKET_ELEMENT, TicketSeedDto.class)) {
+            return importPipeline.run(Ticket.class, ticketSeedDtos, ticketSeedDto -> {
+                if (!importMetrics.time(Ticket.class, ImportStage.VALIDATE, () -> validationUtil.isValid(ticketSeedDto))) {
+                    return ImportRecord.<Ticket>rejected("Invalid Ticket");
+                }
 
-                    result.append(isValid ? String.format("Successfully imported Ticket %s - %s",
-                            ticketSeedDto.getFromTown().getName(), ticketSeedDto.getToTown().getName())
-                            : "Invalid Ticket").append(System.lineSeparator());
+                return ImportRecord.imported(importMetrics.time(Ticket.class, ImportStage.MAP, () -> modelMapper.map(ticketSeedDto, Ticket.class)),
+                        String.format("Successfully imported Ticket %s - %s",
+                                ticketSeedDto.getFromTown().getName(), ticketSeedDto.getToTown().getName()));
+            }, tickets -> chunkedSaver.saveAll(tickets, chunk -> {
+                List<Ticket> changed = resolveReferences(upserter.changed(Ticket.class, "serialNumber", chunk, Ticket::getSerialNumber,
+                        TicketServiceImpl::content), towns, passengers, planes);
+                revenueService.addTickets(changed);
+                seatInventory.addTickets(changed);
+                passengerService.addTickets(changed);
 
-                    return isValid;
-                }).map(ticketSeedDto -> {
-                    Ticket ticket = modelMapper.map(ticketSeedDto, Ticket.class);
-                    ticket.setFromTown(townService.getTownByName(ticketSeedDto.getFromTown().getName()));
-                    ticket.setToTown(townService.getTownByName(ticketSeedDto.getToTown().getName()));
-                    ticket.setPassenger(passengerService.getPassengerByEmail(ticketSeedDto.getPassenger().getEmail()));
-                    ticket.setPlane(planeService.getPlaneByRegisterNumber(ticketSeedDto.getPlane().getRegisterNumber()));
+                return publishOnCommit(changed);
+            }, ticketRepository)).trim();
+        }
+    }
+
+    private List<Ticket> resolveReferences(List<Ticket> tickets, ReferenceResolver<Town> towns,
+                                           ReferenceResolver<Passenger> passengers, ReferenceResolver<Plane> planes) {
+        towns.prefetch(tickets.stream()
+                .flatMap(ticket -> Stream.of(ticket.getFromTown().getName(), ticket.getToTown().getName()))
+                .collect(Collectors.toList()));
+        passengers.prefetch(tickets.stream()
+                .map(ticket -> ticket.getPassenger().getEmail())
+                .collect(Collectors.toList()));
+        planes.prefetch(tickets.stream()
+                .map(ticket -> ticket.getPlane().getRegisterNumber())
+                .collect(Collectors.toList()));
+
+        tickets.forEach(ticket -> {
+            ticket.setFromTown(towns.resolve(ticket.getFromTown().getName()));
+            ticket.setToTown(towns.resolve(ticket.getToTown().getName()));
+            ticket.setPassenger(passengers.resolve(ticket.getPassenger().getEmail()));
+            ticket.setPlane(planes.resolve(ticket.getPlane().getRegisterNumber()));
+        });
 
-                    return ticket;
-                }).forEach(ticketRepository::save);
+        return tickets;
+    }
+
+    private List<Ticket> publishOnCommit(List<Ticket> tickets) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                routeService.addTickets(tickets);
+                departureBoardService.addTickets(tickets);
+            }
+        });
 
+        return tickets;
+    }
 
-        return result.toString().trim();
+    private static List<?> content(Ticket ticket) {
+        return Arrays.asList(ticket.getSerialNumber(), ticket.getPrice(), ticket.getTakeoff(),
+                ticket.getFromTown().getName(), ticket.getToTown().getName(),
+                ticket.getPassenger().getEmail(), ticket.getPlane().getRegisterNumber());
     }
 }
@@ -1,67 +1,91 @@
 package softuni.exam.service.impl;
 
-import com.google.gson.Gson;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import softuni.exam.models.dto.json.TownSeedDto;
 import softuni.exam.models.entity.Town;
 import softuni.exam.repository.TownRepository;
 import softuni.exam.service.TownService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportCheckpoints;
+import softuni.exam.util.ImportCursor;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
+import softuni.exam.util.JsonParser;
+import softuni.exam.util.Upserter;
 import softuni.exam.util.ValidationUtil;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class TownServiceImpl implements TownService {
 
-    private static final String TOWNS_FILE_PATH = "src/main/resources/files/json/towns.json";
+    private static final String TOWNS_FILE = "json/towns.json";
 
     private final TownRepository townRepository;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
-    private final Gson gson;
+    private final JsonParser jsonParser;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final ImportCheckpoints importCheckpoints;
+    private final Upserter upserter;
+    private final String townsFilePath;
 
-    public TownServiceImpl(TownRepository townRepository, ModelMapper modelMapper, ValidationUtil validationUtil, Gson gson) {
+    public TownServiceImpl(TownRepository townRepository, ModelMapper modelMapper, ValidationUtil validationUtil, JsonParser jsonParser, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ImportCheckpoints importCheckpoints, Upserter upserter, @Value("${import.files-dir}") String filesDir) {
         this.townRepository = townRepository;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
-        this.gson = gson;
+        this.jsonParser = jsonParser;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.importCheckpoints = importCheckpoints;
+        this.upserter = upserter;
+        this.townsFilePath = Path.of(filesDir, TOWNS_FILE).toString();
     }
 
     @Override
     public boolean areImported() {
-        return townRepository.count() > 0;
+        return townRepository.count() > 0 && !importCheckpoints.isPending(townsFilePath);
     }
 
     @Override
     public String readTownsFileContent() throws IOException {
-        return Files.readString(Path.of(TOWNS_FILE_PATH));
+        return Files.readString(Path.of(townsFilePath));
     }
 
     @Override
     public String importTowns() throws IOException {
-        StringBuilder result = new StringBuilder();
+        try (ImportCursor cursor = importCheckpoints.open(townsFilePath);
+             Stream<TownSeedDto> townSeedDtos = jsonParser.stream(townsFilePath, TownSeedDto.class)) {
+            return importPipeline.run(Town.class, townSeedDtos, townSeedDto -> {
+                if (!importMetrics.time(Town.class, ImportStage.VALIDATE, () -> validationUtil.isValid(townSeedDto))) {
+                    return ImportRecord.<Town>rejected("Invalid Town");
+                }
 
-        Arrays.stream(gson.fromJson(readTownsFileContent(), TownSeedDto[].class))
-                .filter(townSeedDto -> {
-                    boolean isValid = validationUtil.isValid(townSeedDto);
-
-                    result.append(isValid ? String.format("Successfully imported Town %s - %d",
-                            townSeedDto.getName(), townSeedDto.getPopulation())
-                            : "Invalid Town").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(townSeedDto -> modelMapper.map(townSeedDto, Town.class))
-                .forEach(townRepository::save);
-
-        return result.toString().trim();
+                return ImportRecord.imported(importMetrics.time(Town.class, ImportStage.MAP, () -> modelMapper.map(townSeedDto, Town.class)),
+                        String.format("Successfully imported Town %s - %d", townSeedDto.getName(), townSeedDto.getPopulation()));
+            }, towns -> chunkedSaver.saveAll(towns,
+                    chunk -> upserter.changed(Town.class, "name", chunk, Town::getName, TownServiceImpl::content), townRepository)).trim();
+        }
     }
 
     @Override
     public Town getTownByName(String townName) {
         return townRepository.findByName(townName);
     }
+
+    private static List<?> content(Town town) {
+        return Arrays.asList(town.getName(), town.getPopulation(), town.getGuide());
+    }
 }
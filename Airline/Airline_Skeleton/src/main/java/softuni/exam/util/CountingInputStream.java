@@ -0,0 +1,46 @@
+package softuni.exam.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+public class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer bytesRead;
+
+    public CountingInputStream(InputStream inputStream, LongConsumer bytesRead) {
+        super(inputStream);
+        this.bytesRead = bytesRead;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+
+        if (read >= 0) {
+            bytesRead.accept(1);
+        }
+
+        return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+
+        if (read > 0) {
+            bytesRead.accept(read);
+        }
+
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        bytesRead.accept(skipped);
+
+        return skipped;
+    }
+}
@@ -0,0 +1,133 @@
+package softuni.exam.util;
+
+import softuni.exam.models.dto.view.DepartureViewDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Immutable snapshot of the departures in a time window, per origin town in board order with an offset for every hour
+public class DepartureIndex {
+
+    private static final Comparator<DepartureViewDto> BOARD_ORDER = Comparator.comparing(DepartureViewDto::getTakeoff)
+            .thenComparing(DepartureViewDto::getTicketId);
+
+    private final LocalDateTime windowStart;
+    private final int hours;
+    private final Map<String, TownDepartures> towns;
+
+    private DepartureIndex(LocalDateTime windowStart, int hours, Map<String, TownDepartures> towns) {
+        this.windowStart = windowStart;
+        this.hours = hours;
+        this.towns = towns;
+    }
+
+    public static DepartureIndex build(LocalDateTime windowStart, int hours, Collection<DepartureViewDto> departures) {
+        LocalDateTime start = windowStart.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = start.plusHours(hours);
+
+        Map<String, List<DepartureViewDto>> byTown = departures.stream()
+                .filter(departure -> departure.getFromTown() != null && departure.getTakeoff() != null)
+                .filter(departure -> !departure.getTakeoff().isBefore(start) && departure.getTakeoff().isBefore(end))
+                .collect(Collectors.groupingBy(DepartureViewDto::getFromTown));
+
+        Map<String, TownDepartures> towns = new HashMap<>();
+        byTown.forEach((town, townDepartures) -> towns.put(town, new TownDepartures(start, hours, townDepartures)));
+
+        return new DepartureIndex(start, hours, towns);
+    }
+
+    public LocalDateTime getWindowStart() {
+        return windowStart;
+    }
+
+    public LocalDateTime getWindowEnd() {
+        return windowStart.plusHours(hours);
+    }
+
+    public int size() {
+        return towns.values().stream().mapToInt(town -> town.departures.length).sum();
+    }
+
+    public boolean covers(LocalDateTime from, LocalDateTime until) {
+        return !from.isBefore(windowStart) && !until.isAfter(getWindowEnd());
+    }
+
+    // Returns a new snapshot with the given departures added; a departure for a ticket already indexed replaces it
+    public DepartureIndex with(Collection<DepartureViewDto> departures) {
+        if (departures.isEmpty()) {
+            return this;
+        }
+
+        Map<Long, DepartureViewDto> latest = new LinkedHashMap<>();
+        departures.forEach(departure -> latest.put(departure.getTicketId(), departure));
+
+        List<DepartureViewDto> merged = new ArrayList<>(latest.values());
+        towns.values().forEach(town -> {
+            for (DepartureViewDto departure : town.departures) {
+                if (!latest.containsKey(departure.getTicketId())) {
+                    merged.add(departure);
+                }
+            }
+        });
+
+        return build(windowStart, hours, merged);
+    }
+
+    // Departures from the town taking off before until and after the (afterTakeoff, afterId) keyset cursor, in board order
+    public List<DepartureViewDto> find(String fromTown, LocalDateTime afterTakeoff, long afterId, LocalDateTime until, int limit) {
+        TownDepartures town = towns.get(fromTown);
+
+        if (town == null) {
+            return Collections.emptyList();
+        }
+
+        List<DepartureViewDto> found = new ArrayList<>(Math.min(limit, town.departures.length));
+        int bucket = (int) Math.min(hours, Math.max(0, ChronoUnit.HOURS.between(windowStart, afterTakeoff)));
+
+        for (int i = town.bucketOffsets[bucket]; i < town.departures.length && found.size() < limit; i++) {
+            DepartureViewDto departure = town.departures[i];
+            int order = departure.getTakeoff().compareTo(afterTakeoff);
+
+            if (!departure.getTakeoff().isBefore(until)) {
+                break;
+            }
+
+            if (order > 0 || order == 0 && departure.getTicketId() > afterId) {
+                found.add(departure);
+            }
+        }
+
+        return found;
+    }
+
+    private static class TownDepartures {
+
+        private final DepartureViewDto[] departures;
+        private final int[] bucketOffsets;
+
+        private TownDepartures(LocalDateTime windowStart, int hours, List<DepartureViewDto> departures) {
+            this.departures = departures.stream().sorted(BOARD_ORDER).toArray(DepartureViewDto[]::new);
+            this.bucketOffsets = new int[hours + 1];
+
+            int i = 0;
+            for (int bucket = 0; bucket <= hours; bucket++) {
+                LocalDateTime bucketStart = windowStart.plusHours(bucket);
+
+                while (i < this.departures.length && this.departures[i].getTakeoff().isBefore(bucketStart)) {
+                    i++;
+                }
+
+                bucketOffsets[bucket] = i;
+            }
+        }
+    }
+}
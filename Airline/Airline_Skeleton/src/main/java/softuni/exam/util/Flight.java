@@ -0,0 +1,44 @@
+package softuni.exam.util;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// A plane's departure at a given takeoff; seat capacity is enforced per flight
+public class Flight {
+
+    private final Long planeId;
+    private final LocalDateTime takeoff;
+
+    public Flight(Long planeId, LocalDateTime takeoff) {
+        this.planeId = planeId;
+        this.takeoff = takeoff;
+    }
+
+    public Long getPlaneId() {
+        return planeId;
+    }
+
+    public LocalDateTime getTakeoff() {
+        return takeoff;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Flight flight = (Flight) o;
+
+        return Objects.equals(planeId, flight.planeId) && Objects.equals(takeoff, flight.takeoff);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(planeId, takeoff);
+    }
+}
@@ -0,0 +1,14 @@
+package softuni.exam.util;
+
+import java.io.IOException;
+
+public interface ImportCheckpoints {
+
+    ImportCursor open(String filePath) throws IOException;
+
+    boolean isPending(String filePath);
+
+    void save(ImportCursor cursor);
+
+    void complete(ImportCursor cursor);
+}
@@ -0,0 +1,105 @@
+package softuni.exam.util;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportCursor implements AutoCloseable {
+
+    private static final ThreadLocal<ImportCursor> CURRENT = new ThreadLocal<>();
+    private static final ImportCursor UNTRACKED = new ImportCursor(null, 0, 0, null, 0, false);
+
+    private final Path source;
+    private final long fileSize;
+    private final long lastModified;
+    private final String digest;
+    private final long resumeIndex;
+    private final boolean unchanged;
+    private final AtomicLong bytesRead = new AtomicLong();
+    private volatile long recordIndex;
+    private volatile long byteOffset;
+
+    public ImportCursor(Path source, long fileSize, long lastModified, String digest, long resumeIndex, boolean unchanged) {
+        this.source = source;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.digest = digest;
+        this.resumeIndex = resumeIndex;
+        this.unchanged = unchanged;
+        this.recordIndex = resumeIndex;
+    }
+
+    public static ImportCursor current() {
+        ImportCursor cursor = CURRENT.get();
+
+        return cursor != null ? cursor : UNTRACKED;
+    }
+
+    public static void bind(ImportCursor cursor) {
+        CURRENT.set(cursor);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    public boolean isTracked() {
+        return source != null;
+    }
+
+    public InputStream track(Path path, InputStream inputStream) {
+        if (!isTracked() || !source.equals(path)) {
+            return inputStream;
+        }
+
+        return new CountingInputStream(inputStream, bytesRead::addAndGet);
+    }
+
+    public void advance(long recordIndex, long byteOffset) {
+        this.recordIndex = recordIndex;
+        this.byteOffset = byteOffset;
+    }
+
+    public Path getSource() {
+        return source;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    public long getResumeIndex() {
+        return resumeIndex;
+    }
+
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getRecordIndex() {
+        return recordIndex;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            unbind();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package softuni.exam.util;
+
+import softuni.exam.models.dto.view.ImportStatsViewDto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface ImportMetrics {
+
+    <R> R time(Class<?> entityType, ImportStage stage, Supplier<R> action);
+
+    void record(Class<?> entityType, ImportStage stage, long elapsedNanos);
+
+    void recordRun(Class<?> entityType, long imported, long rejected, long resultBytes, long elapsedNanos);
+
+    List<ImportStatsViewDto> getStats();
+}
@@ -0,0 +1,15 @@
+package softuni.exam.util;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+public interface ImportOrchestrator {
+
+    Set<String> getEntities();
+
+    String importEntity(String entity) throws Exception;
+
+    String importAll() throws Exception;
+
+    <R> R runExclusively(String entity, Callable<R> action) throws Exception;
+}
@@ -0,0 +1,68 @@
+package softuni.exam.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportProgress {
+
+    private static final ThreadLocal<ImportProgress> CURRENT = new ThreadLocal<>();
+    private static final ImportProgress UNTRACKED = new ImportProgress(false);
+
+    private final boolean tracked;
+    private final AtomicLong recordsDone = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private ImportProgress(boolean tracked) {
+        this.tracked = tracked;
+    }
+
+    public ImportProgress() {
+        this(true);
+    }
+
+    public static ImportProgress current() {
+        ImportProgress progress = CURRENT.get();
+
+        return progress != null ? progress : UNTRACKED;
+    }
+
+    public static void bind(ImportProgress progress) {
+        CURRENT.set(progress);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    public InputStream track(Path path, InputStream inputStream) throws IOException {
+        if (!tracked) {
+            return inputStream;
+        }
+
+        totalBytes.addAndGet(Files.size(path));
+
+        return new CountingInputStream(inputStream, bytesRead::addAndGet);
+    }
+
+    public void recordDone() {
+        if (tracked) {
+            recordsDone.incrementAndGet();
+        }
+    }
+
+    public long getRecordsDone() {
+        return recordsDone.get();
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+}
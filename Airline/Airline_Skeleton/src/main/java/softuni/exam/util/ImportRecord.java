@@ -0,0 +1,48 @@
+package softuni.exam.util;
+
+public class ImportRecord<T> {
+
+    private final T entity;
+    private final String message;
+    private final long recordIndex;
+    private final long byteOffset;
+
+    private ImportRecord(T entity, String message, long recordIndex, long byteOffset) {
+        this.entity = entity;
+        this.message = message;
+        this.recordIndex = recordIndex;
+        this.byteOffset = byteOffset;
+    }
+
+    public static <T> ImportRecord<T> imported(T entity, String message) {
+        return new ImportRecord<>(entity, message, 0, 0);
+    }
+
+    public static <T> ImportRecord<T> rejected(String message) {
+        return new ImportRecord<>(null, message, 0, 0);
+    }
+
+    public ImportRecord<T> at(long recordIndex, long byteOffset) {
+        return new ImportRecord<>(entity, message, recordIndex, byteOffset);
+    }
+
+    public T getEntity() {
+        return entity;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getRecordIndex() {
+        return recordIndex;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    public boolean isImported() {
+        return entity != null;
+    }
+}
@@ -0,0 +1,9 @@
+package softuni.exam.util;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+public interface JsonParser {
+
+    <T> Stream<T> stream(String filePath, Class<T> tClass) throws IOException;
+}
@@ -0,0 +1,10 @@
+package softuni.exam.util;
+
+import java.util.Collection;
+
+public interface ReferenceResolver<T> {
+
+    void prefetch(Collection<String> naturalKeys);
+
+    T resolve(String naturalKey);
+}
@@ -0,0 +1,6 @@
+package softuni.exam.util;
+
+public interface ReferenceResolverFactory {
+
+    <T> ReferenceResolver<T> create(Class<T> entityClass, String naturalKeyAttribute);
+}
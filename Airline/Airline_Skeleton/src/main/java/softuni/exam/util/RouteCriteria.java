@@ -0,0 +1,5 @@
+package softuni.exam.util;
+
+public enum RouteCriteria {
+    CHEAPEST, FEWEST_HOPS
+}
@@ -0,0 +1,65 @@
+package softuni.exam.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class RouteEdge {
+
+    private static final int PRICE_SCALE = 2;
+
+    private final long ticketId;
+    private final long fromTownId;
+    private final long toTownId;
+    private final long takeoff;
+    private final long price;
+
+    public RouteEdge(long ticketId, long fromTownId, long toTownId, long takeoff, long price) {
+        this.ticketId = ticketId;
+        this.fromTownId = fromTownId;
+        this.toTownId = toTownId;
+        this.takeoff = takeoff;
+        this.price = price;
+    }
+
+    public RouteEdge(Long ticketId, Long fromTownId, Long toTownId, LocalDateTime takeoff, BigDecimal price) {
+        this(ticketId, fromTownId, toTownId, toEpochSecond(takeoff), toCents(price));
+    }
+
+    public long getTicketId() {
+        return ticketId;
+    }
+
+    public long getFromTownId() {
+        return fromTownId;
+    }
+
+    public long getToTownId() {
+        return toTownId;
+    }
+
+    public long getTakeoff() {
+        return takeoff;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public LocalDateTime getTakeoffTime() {
+        return LocalDateTime.ofEpochSecond(takeoff, 0, ZoneOffset.UTC);
+    }
+
+    public BigDecimal getPriceAmount() {
+        return BigDecimal.valueOf(price, PRICE_SCALE);
+    }
+
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,314 @@
+package softuni.exam.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+// Immutable compressed-sparse-row snapshot of ticketed routes: one row per departure town, edges ordered by takeoff
+public class RouteGraph {
+
+    private static final long HOP_WEIGHT = 1_000_000_000_000L;
+    private static final RouteGraph EMPTY = new RouteGraph(new long[0], new int[1], new int[0], new long[0], new long[0], new long[0]);
+
+    private final long[] townIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] takeoffs;
+    private final long[] prices;
+    private final long[] ticketIds;
+
+    private RouteGraph(long[] townIds, int[] offsets, int[] targets, long[] takeoffs, long[] prices, long[] ticketIds) {
+        this.townIds = townIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.takeoffs = takeoffs;
+        this.prices = prices;
+        this.ticketIds = ticketIds;
+    }
+
+    public static RouteGraph empty() {
+        return EMPTY;
+    }
+
+    public int getTownCount() {
+        return townIds.length;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    // Returns a new snapshot with the given edges added; an edge for a ticket already in the graph replaces it
+    public RouteGraph with(Collection<RouteEdge> edges) {
+        if (edges.isEmpty()) {
+            return this;
+        }
+
+        Map<Long, RouteEdge> latest = new LinkedHashMap<>();
+        edges.forEach(edge -> latest.put(edge.getTicketId(), edge));
+
+        List<RouteEdge> added = new ArrayList<>(latest.values());
+        added.sort(Comparator.comparingLong(RouteEdge::getFromTownId).thenComparingLong(RouteEdge::getTakeoff));
+
+        long[] replaced = latest.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        long[] mergedTownIds = LongStream.concat(Arrays.stream(townIds),
+                added.stream().flatMapToLong(edge -> LongStream.of(edge.getFromTownId(), edge.getToTownId())))
+                .sorted()
+                .distinct()
+                .toArray();
+
+        int[] remapped = new int[townIds.length];
+        for (int town = 0; town < townIds.length; town++) {
+            remapped[town] = Arrays.binarySearch(mergedTownIds, townIds[town]);
+        }
+
+        int kept = 0;
+        for (long ticketId : ticketIds) {
+            if (Arrays.binarySearch(replaced, ticketId) < 0) {
+                kept++;
+            }
+        }
+
+        int size = kept + added.size();
+        int[] mergedOffsets = new int[mergedTownIds.length + 1];
+        int[] mergedTargets = new int[size];
+        long[] mergedTakeoffs = new long[size];
+        long[] mergedPrices = new long[size];
+        long[] mergedTicketIds = new long[size];
+
+        int row = 0;
+        int old = 0;
+        int next = 0;
+
+        for (int out = 0; out < size; out++) {
+            while (old < ticketIds.length && Arrays.binarySearch(replaced, ticketIds[old]) >= 0) {
+                old++;
+            }
+
+            while (old < ticketIds.length && offsets[row + 1] <= old) {
+                row++;
+            }
+
+            RouteEdge edge = next < added.size() ? added.get(next) : null;
+            boolean takeOld = old < ticketIds.length && (edge == null || townIds[row] < edge.getFromTownId()
+                    || townIds[row] == edge.getFromTownId() && takeoffs[old] <= edge.getTakeoff());
+            int from;
+
+            if (takeOld) {
+                from = remapped[row];
+                mergedTargets[out] = remapped[targets[old]];
+                mergedTakeoffs[out] = takeoffs[old];
+                mergedPrices[out] = prices[old];
+                mergedTicketIds[out] = ticketIds[old];
+                old++;
+            } else {
+                from = Arrays.binarySearch(mergedTownIds, edge.getFromTownId());
+                mergedTargets[out] = Arrays.binarySearch(mergedTownIds, edge.getToTownId());
+                mergedTakeoffs[out] = edge.getTakeoff();
+                mergedPrices[out] = edge.getPrice();
+                mergedTicketIds[out] = edge.getTicketId();
+                next++;
+            }
+
+            mergedOffsets[from + 1]++;
+        }
+
+        for (int town = 0; town < mergedTownIds.length; town++) {
+            mergedOffsets[town + 1] += mergedOffsets[town];
+        }
+
+        return new RouteGraph(mergedTownIds, mergedOffsets, mergedTargets, mergedTakeoffs, mergedPrices, mergedTicketIds);
+    }
+
+    // Label-setting search over tickets: a label is a taken ticket, and each town's departures are scanned at most once,
+    // by the cheapest label that reaches the town early enough to connect to them
+    public List<RouteEdge> plan(long fromTownId, long toTownId, long departAfter, long minConnectionSeconds, RouteCriteria criteria) {
+        if (minConnectionSeconds < 0) {
+            throw new IllegalArgumentException("Minimum connection time must not be negative");
+        }
+
+        int source = Arrays.binarySearch(townIds, fromTownId);
+        int target = Arrays.binarySearch(townIds, toTownId);
+
+        if (source < 0 || target < 0 || source == target) {
+            return Collections.emptyList();
+        }
+
+        Search search = new Search(target, minConnectionSeconds, criteria == RouteCriteria.FEWEST_HOPS ? HOP_WEIGHT : 0);
+        LabelHeap labels = search.labels;
+
+        search.scan(source, departAfter, -1, 0);
+
+        while (!labels.isEmpty()) {
+            int label = labels.poll();
+            int edge = labels.edges[label];
+
+            if (targets[edge] == target) {
+                return itinerary(labels, label);
+            }
+
+            search.scan(targets[edge], takeoffs[edge] + minConnectionSeconds, label, labels.costs[label]);
+        }
+
+        return Collections.emptyList();
+    }
+
+    private int firstDeparture(int low, int high, long earliest) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (takeoffs[middle] < earliest) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private List<RouteEdge> itinerary(LabelHeap labels, int last) {
+        List<RouteEdge> legs = new ArrayList<>();
+
+        for (int label = last; label >= 0; label = labels.parents[label]) {
+            int edge = labels.edges[label];
+            legs.add(new RouteEdge(ticketIds[edge], townIds[rowOf(edge)], townIds[targets[edge]], takeoffs[edge], prices[edge]));
+        }
+
+        Collections.reverse(legs);
+
+        return legs;
+    }
+
+    private int rowOf(int edge) {
+        int low = 0;
+        int high = townIds.length - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+
+            if (offsets[middle] <= edge) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private class Search {
+
+        private final int target;
+        private final long minConnectionSeconds;
+        private final long hopWeight;
+        private final int[] unscanned = Arrays.copyOfRange(offsets, 1, offsets.length);
+        private final long[] scannedFrom = new long[townIds.length];
+        private final LabelHeap labels = new LabelHeap();
+        private long bestTargetCost = Long.MAX_VALUE;
+
+        private Search(int target, long minConnectionSeconds, long hopWeight) {
+            this.target = target;
+            this.minConnectionSeconds = minConnectionSeconds;
+            this.hopWeight = hopWeight;
+            Arrays.fill(scannedFrom, Long.MAX_VALUE);
+        }
+
+        // Skips tickets whose label could neither reach the target more cheaply nor connect to a departure not yet scanned
+        private void scan(int town, long earliest, int parent, long cost) {
+            if (earliest >= scannedFrom[town]) {
+                return;
+            }
+
+            int end = unscanned[town];
+            int start = firstDeparture(offsets[town], end, earliest);
+
+            for (int edge = start; edge < end; edge++) {
+                long edgeCost = cost + hopWeight + prices[edge];
+                int arrival = targets[edge];
+
+                if (edgeCost >= bestTargetCost) {
+                    continue;
+                }
+
+                if (arrival == target) {
+                    bestTargetCost = edgeCost;
+                } else if (takeoffs[edge] + minConnectionSeconds >= scannedFrom[arrival]) {
+                    continue;
+                }
+
+                labels.add(edgeCost, edge, parent);
+            }
+
+            unscanned[town] = start;
+            scannedFrom[town] = earliest;
+        }
+    }
+
+    private static class LabelHeap {
+
+        private long[] costs = new long[64];
+        private int[] edges = new int[64];
+        private int[] parents = new int[64];
+        private int[] heap = new int[64];
+        private int labelCount;
+        private int heapSize;
+
+        private boolean isEmpty() {
+            return heapSize == 0;
+        }
+
+        private void add(long cost, int edge, int parent) {
+            if (labelCount == costs.length) {
+                costs = Arrays.copyOf(costs, labelCount * 2);
+                edges = Arrays.copyOf(edges, labelCount * 2);
+                parents = Arrays.copyOf(parents, labelCount * 2);
+                heap = Arrays.copyOf(heap, labelCount * 2);
+            }
+
+            costs[labelCount] = cost;
+            edges[labelCount] = edge;
+            parents[labelCount] = parent;
+
+            int position = heapSize++;
+
+            while (position > 0 && costs[heap[(position - 1) / 2]] > cost) {
+                heap[position] = heap[(position - 1) / 2];
+                position = (position - 1) / 2;
+            }
+
+            heap[position] = labelCount++;
+        }
+
+        private int poll() {
+            int top = heap[0];
+            int last = heap[--heapSize];
+            int position = 0;
+
+            while (position * 2 + 1 < heapSize) {
+                int child = position * 2 + 1;
+
+                if (child + 1 < heapSize && costs[heap[child + 1]] < costs[heap[child]]) {
+                    child++;
+                }
+
+                if (costs[heap[child]] >= costs[last]) {
+                    break;
+                }
+
+                heap[position] = heap[child];
+                position = child;
+            }
+
+            heap[position] = last;
+
+            return top;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package softuni.exam.util;
+
+import softuni.exam.models.entity.Plane;
+import softuni.exam.models.entity.Ticket;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface SeatInventory {
+
+    boolean tryReserve(Plane plane, LocalDateTime takeoff);
+
+    void release(Plane plane, LocalDateTime takeoff);
+
+    void addTickets(Collection<Ticket> tickets);
+}
@@ -0,0 +1,35 @@
+package softuni.exam.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SqlTraffic {
+
+    private static final ThreadLocal<LongAdder> RESULT_BYTES = new ThreadLocal<>();
+
+    private SqlTraffic() {
+    }
+
+    public static <R> R measure(LongAdder resultBytes, Callable<R> action) throws Exception {
+        LongAdder previous = RESULT_BYTES.get();
+        RESULT_BYTES.set(resultBytes);
+
+        try {
+            return action.call();
+        } finally {
+            if (previous != null) {
+                RESULT_BYTES.set(previous);
+            } else {
+                RESULT_BYTES.remove();
+            }
+        }
+    }
+
+    public static void recordResultBytes(long bytes) {
+        LongAdder resultBytes = RESULT_BYTES.get();
+
+        if (resultBytes != null) {
+            resultBytes.add(bytes);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package softuni.exam.util;
+
+import java.util.concurrent.Callable;
+
+public interface StatementCounter {
+
+    long getCount();
+
+    void reset();
+
+    long countStatements(Runnable action);
+
+    long countStatements(String kind, String table, Runnable action);
+
+    <V> Callable<V> carry(Callable<V> task);
+}
@@ -0,0 +1,56 @@
+package softuni.exam.util;
+
+import softuni.exam.models.entity.Ticket;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// A ticket's contribution to the revenue rollup and the (fromTown, toTown, airline, day) group it belongs to
+public class TicketRevenue {
+
+    private final Long fromTownId;
+    private final Long toTownId;
+    private final String airline;
+    private final LocalDate day;
+    private final BigDecimal price;
+
+    public TicketRevenue(Long fromTownId, Long toTownId, String airline, LocalDateTime takeoff, BigDecimal price) {
+        this.fromTownId = fromTownId;
+        this.toTownId = toTownId;
+        this.airline = airline;
+        this.day = takeoff == null ? null : takeoff.toLocalDate();
+        this.price = price;
+    }
+
+    public static TicketRevenue of(Ticket ticket) {
+        return new TicketRevenue(ticket.getFromTown() == null ? null : ticket.getFromTown().getId(),
+                ticket.getToTown() == null ? null : ticket.getToTown().getId(),
+                ticket.getPlane() == null ? null : ticket.getPlane().getAirline(),
+                ticket.getTakeoff(), ticket.getPrice());
+    }
+
+    public Long getFromTownId() {
+        return fromTownId;
+    }
+
+    public Long getToTownId() {
+        return toTownId;
+    }
+
+    public String getAirline() {
+        return airline;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isRolledUp() {
+        return fromTownId != null && toTownId != null && airline != null && day != null && price != null;
+    }
+}
@@ -0,0 +1,12 @@
+package softuni.exam.util;
+
+import softuni.exam.models.entity.HashedEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+public interface Upserter {
+
+    <T extends HashedEntity> List<T> changed(Class<T> entityClass, String naturalKeyAttribute, List<T> entities,
+                                             Function<T, String> naturalKey, Function<T, List<?>> content);
+}
@@ -1,8 +1,13 @@
 package softuni.exam.util;
 
 import javax.validation.ConstraintViolation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface ValidationUtil {
 
     <E> boolean isValid(E entity);
+
+    <E> List<Set<ConstraintViolation<E>>> validateAll(Collection<E> entities);
 }
@@ -2,10 +2,14 @@ package softuni.exam.util;
 
 import javax.xml.bind.JAXBException;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.stream.Stream;
 
 public interface XmlParser {
 
     <T> T fromFile(String filePath, Class<T> tClass) throws JAXBException, FileNotFoundException;
 
+    <T> Stream<T> stream(String filePath, String elementName, Class<T> tClass) throws JAXBException, IOException;
+
     <T> void writeToFile(String filePath, T entity) throws JAXBException;
 }
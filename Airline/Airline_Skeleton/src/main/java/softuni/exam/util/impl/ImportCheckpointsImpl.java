@@ -0,0 +1,140 @@
+package softuni.exam.util.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import softuni.exam.models.entity.ImportCheckpoint;
+import softuni.exam.repository.ImportCheckpointRepository;
+import softuni.exam.util.ImportCheckpoints;
+import softuni.exam.util.ImportCursor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+
+@Component
+public class ImportCheckpointsImpl implements ImportCheckpoints {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportCheckpointsImpl.class);
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImportCheckpointsImpl(ImportCheckpointRepository importCheckpointRepository, TransactionTemplate transactionTemplate) {
+        this.importCheckpointRepository = importCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public ImportCursor open(String filePath) throws IOException {
+        Path source = Path.of(filePath);
+        long fileSize = Files.size(source);
+        long lastModified = Files.getLastModifiedTime(source).toMillis();
+
+        ImportCheckpoint checkpoint = importCheckpointRepository.findBySource(filePath).orElse(null);
+
+        String digest = checkpoint != null && checkpoint.getDigest() != null && isSameFile(checkpoint, fileSize, lastModified)
+                ? checkpoint.getDigest()
+                : digest(source);
+
+        // Only an interrupted import of the same content resumes; a completed one either skips as unchanged or, once the
+        // content differs, starts over from the first record
+        boolean sameContent = checkpoint != null && digest.equals(checkpoint.getDigest());
+        boolean unchanged = sameContent && checkpoint.getCompleted();
+        long resumeIndex = sameContent && !checkpoint.getCompleted() ? checkpoint.getRecordIndex() : 0;
+
+        if (unchanged) {
+            LOGGER.info("Skipping import of {}, unchanged since the last import", filePath);
+        } else if (resumeIndex > 0) {
+            LOGGER.info("Resuming import of {} after record {}", filePath, resumeIndex);
+        }
+
+        ImportCursor cursor = new ImportCursor(source, fileSize, lastModified, digest, resumeIndex, unchanged);
+        ImportCursor.bind(cursor);
+
+        return cursor;
+    }
+
+    @Override
+    public boolean isPending(String filePath) {
+        try {
+            Path source = Path.of(filePath);
+            long fileSize = Files.size(source);
+            long lastModified = Files.getLastModifiedTime(source).toMillis();
+
+            return importCheckpointRepository.findBySource(filePath)
+                    .filter(checkpoint -> !checkpoint.getCompleted() && isSameFile(checkpoint, fileSize, lastModified))
+                    .isPresent();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void save(ImportCursor cursor) {
+        write(cursor, false);
+    }
+
+    @Override
+    public void complete(ImportCursor cursor) {
+        transactionTemplate.execute(status -> {
+            write(cursor, true);
+
+            return null;
+        });
+    }
+
+    private void write(ImportCursor cursor, boolean completed) {
+        if (!cursor.isTracked()) {
+            return;
+        }
+
+        String source = cursor.getSource().toString();
+        ImportCheckpoint checkpoint = importCheckpointRepository.findBySource(source).orElseGet(ImportCheckpoint::new);
+
+        checkpoint.setSource(source);
+        checkpoint.setFileSize(cursor.getFileSize());
+        checkpoint.setLastModified(cursor.getLastModified());
+        checkpoint.setDigest(cursor.getDigest());
+        checkpoint.setRecordIndex(cursor.getRecordIndex());
+        checkpoint.setByteOffset(cursor.getByteOffset());
+        checkpoint.setCompleted(completed);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+
+        importCheckpointRepository.save(checkpoint);
+    }
+
+    private static String digest(Path source) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            int read;
+
+            while ((read = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isSameFile(ImportCheckpoint checkpoint, long fileSize, long lastModified) {
+        return checkpoint.getFileSize() == fileSize && checkpoint.getLastModified() == lastModified;
+    }
+}
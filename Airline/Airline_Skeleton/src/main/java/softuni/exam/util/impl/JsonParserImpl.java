@@ -0,0 +1,75 @@
+package softuni.exam.util.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import org.springframework.stereotype.Component;
+import softuni.exam.util.ImportCursor;
+import softuni.exam.util.ImportProgress;
+import softuni.exam.util.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class JsonParserImpl implements JsonParser {
+
+    private final Gson gson;
+
+    public JsonParserImpl(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public <T> Stream<T> stream(String filePath, Class<T> tClass) throws IOException {
+        Path path = Path.of(filePath);
+        JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(
+                ImportProgress.current().track(path,
+                ImportCursor.current().track(path, Files.newInputStream(path))), StandardCharsets.UTF_8)));
+
+        try {
+            reader.beginArray();
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+
+        return StreamSupport.stream(arraySpliterator(reader, tClass), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private <T> Spliterator<T> arraySpliterator(JsonReader reader, Class<T> tClass) {
+        return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!reader.hasNext()) {
+                        return false;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                T element = gson.fromJson(reader, tClass);
+                action.accept(element);
+
+                return true;
+            }
+        };
+    }
+}
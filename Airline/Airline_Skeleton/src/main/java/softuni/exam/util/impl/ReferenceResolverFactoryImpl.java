@@ -0,0 +1,26 @@
+package softuni.exam.util.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import softuni.exam.util.ReferenceResolver;
+import softuni.exam.util.ReferenceResolverFactory;
+
+import javax.persistence.EntityManager;
+
+@Component
+public class ReferenceResolverFactoryImpl implements ReferenceResolverFactory {
+
+    private final EntityManager entityManager;
+    private final long memoryBudgetBytes;
+
+    public ReferenceResolverFactoryImpl(EntityManager entityManager,
+                                        @Value("${import.reference-resolver.memory-budget-bytes}") long memoryBudgetBytes) {
+        this.entityManager = entityManager;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    @Override
+    public <T> ReferenceResolver<T> create(Class<T> entityClass, String naturalKeyAttribute) {
+        return new ReferenceResolverImpl<>(entityManager, entityClass, naturalKeyAttribute, memoryBudgetBytes);
+    }
+}
@@ -0,0 +1,70 @@
+package softuni.exam.util.impl;
+
+import softuni.exam.util.ReferenceResolver;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+class ReferenceResolverImpl<T> implements ReferenceResolver<T> {
+
+    private static final long ESTIMATED_ENTRY_BYTES = 128;
+
+    private final EntityManager entityManager;
+    private final Class<T> entityClass;
+    private final String prefetchQuery;
+    private final boolean preloaded;
+    private final Map<String, Long> ids;
+
+    ReferenceResolverImpl(EntityManager entityManager, Class<T> entityClass, String naturalKeyAttribute, long memoryBudgetBytes) {
+        this.entityManager = entityManager;
+        this.entityClass = entityClass;
+
+        String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        String selectQuery = String.format("SELECT e.%s, e.id FROM %s e", naturalKeyAttribute, entityName);
+        this.prefetchQuery = String.format("%s WHERE e.%s IN :keys", selectQuery, naturalKeyAttribute);
+
+        long count = entityManager.createQuery(String.format("SELECT COUNT(e) FROM %s e", entityName), Long.class)
+                .getSingleResult();
+
+        this.preloaded = count * ESTIMATED_ENTRY_BYTES <= memoryBudgetBytes;
+        this.ids = new HashMap<>();
+
+        if (preloaded) {
+            putAll(entityManager.createQuery(selectQuery, Object[].class).getResultList());
+        }
+    }
+
+    @Override
+    public void prefetch(Collection<String> naturalKeys) {
+        if (preloaded) {
+            return;
+        }
+
+        ids.clear();
+
+        if (naturalKeys.isEmpty()) {
+            return;
+        }
+
+        putAll(entityManager.createQuery(prefetchQuery, Object[].class)
+                .setParameter("keys", new HashSet<>(naturalKeys))
+                .getResultList());
+    }
+
+    @Override
+    public T resolve(String naturalKey) {
+        Long id = ids.get(naturalKey);
+
+        return id == null ? null : entityManager.getReference(entityClass, id);
+    }
+
+    private void putAll(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            ids.put((String) row[0], (Long) row[1]);
+        }
+    }
+}
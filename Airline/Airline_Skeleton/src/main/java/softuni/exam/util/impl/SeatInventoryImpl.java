@@ -0,0 +1,132 @@
+package softuni.exam.util.impl;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import softuni.exam.models.entity.Plane;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.util.Flight;
+import softuni.exam.util.SeatInventory;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+@Component
+public class SeatInventoryImpl implements SeatInventory {
+
+    private final TicketRepository ticketRepository;
+    private final ConcurrentMap<Flight, Seats> flights = new ConcurrentHashMap<>();
+
+    public SeatInventoryImpl(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    // A flight's counter is published empty on its first booking and only then counted from the tickets table, so an
+    // import committing while the count runs still adds its tickets to it. A ticket both counted and added is counted
+    // twice, which can only under-sell. The count runs outside the map so a slow query never holds a bin lock
+    @Override
+    public boolean tryReserve(Plane plane, LocalDateTime takeoff) {
+        Flight flight = new Flight(plane.getId(), takeoff);
+        Seats seats = flights.computeIfAbsent(flight, key -> new Seats(plane.getCapacity() == null ? 0 : plane.getCapacity()));
+
+        seats.load(() -> (int) ticketRepository.countByPlaneIdAndTakeoff(flight.getPlaneId(), flight.getTakeoff()));
+
+        return seats.tryReserve();
+    }
+
+    @Override
+    public void release(Plane plane, LocalDateTime takeoff) {
+        Seats seats = flights.get(new Flight(plane.getId(), takeoff));
+
+        if (seats != null) {
+            seats.taken.decrementAndGet();
+        }
+    }
+
+    // Runs in an import chunk's transaction, before the tickets are saved. Imports are not held to capacity, but the
+    // tickets they add to a loaded flight are counted once the chunk commits. Seats freed by a ticket moving to another
+    // flight are not given back, because a counter loaded after the commit already excludes them
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTickets(Collection<Ticket> tickets) {
+        Map<Flight, Integer> added = new HashMap<>();
+        List<Long> changedIds = tickets.stream()
+                .map(Ticket::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (!changedIds.isEmpty()) {
+            ticketRepository.findAllFlightsByIdIn(changedIds).forEach(previous -> added.merge(previous, -1, Integer::sum));
+        }
+
+        tickets.stream()
+                .filter(ticket -> ticket.getPlane() != null && ticket.getTakeoff() != null)
+                .forEach(ticket -> added.merge(new Flight(ticket.getPlane().getId(), ticket.getTakeoff()), 1, Integer::sum));
+
+        added.values().removeIf(count -> count <= 0);
+
+        if (added.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                added.forEach((flight, count) -> flights.computeIfPresent(flight, (key, seats) -> {
+                    seats.taken.addAndGet(count);
+
+                    return seats;
+                }));
+            }
+        });
+    }
+
+    private static final class Seats {
+
+        private final int capacity;
+        private final AtomicInteger taken = new AtomicInteger();
+        private volatile boolean loaded;
+
+        private Seats(int capacity) {
+            this.capacity = capacity;
+        }
+
+        // Tickets added before the count finishes are already in taken, so the count is added to them, not set over them
+        private void load(IntSupplier count) {
+            if (!loaded) {
+                synchronized (this) {
+                    if (!loaded) {
+                        taken.addAndGet(count.getAsInt());
+                        loaded = true;
+                    }
+                }
+            }
+        }
+
+        private boolean tryReserve() {
+            while (true) {
+                int current = taken.get();
+
+                if (current >= capacity) {
+                    return false;
+                }
+
+                if (taken.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package softuni.exam.util.impl;
+
+import org.springframework.stereotype.Component;
+import softuni.exam.models.entity.HashedEntity;
+import softuni.exam.util.Upserter;
+
+import javax.persistence.EntityManager;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+public class UpserterImpl implements Upserter {
+
+    private static final byte FIELD_SEPARATOR = 0x1f;
+
+    private final EntityManager entityManager;
+
+    public UpserterImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public <T extends HashedEntity> List<T> changed(Class<T> entityClass, String naturalKeyAttribute, List<T> entities,
+                                                    Function<T, String> naturalKey, Function<T, List<?>> content) {
+        Map<String, T> byKey = new LinkedHashMap<>();
+
+        for (T entity : entities) {
+            entity.setContentHash(contentHash(content.apply(entity)));
+            byKey.put(naturalKey.apply(entity), entity);
+        }
+
+        if (byKey.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        List<Object[]> existing = entityManager.createQuery(String.format("SELECT e.%s, e.id, e.contentHash FROM %s e WHERE e.%s IN :keys",
+                naturalKeyAttribute, entityName, naturalKeyAttribute), Object[].class)
+                .setParameter("keys", new HashSet<>(byKey.keySet()))
+                .getResultList();
+
+        for (Object[] row : existing) {
+            T entity = byKey.get((String) row[0]);
+
+            if (entity.getContentHash().equals(row[2])) {
+                byKey.remove(row[0]);
+            } else {
+                entity.setId((Long) row[1]);
+            }
+        }
+
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static long contentHash(List<?> values) {
+        MessageDigest digest = sha256();
+
+        for (Object value : values) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update(FIELD_SEPARATOR);
+        }
+
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
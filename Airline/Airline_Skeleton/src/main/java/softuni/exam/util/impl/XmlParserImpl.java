@@ -1,37 +1,212 @@
 package softuni.exam.util.impl;
 
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import softuni.exam.util.ImportCursor;
+import softuni.exam.util.ImportProgress;
 import softuni.exam.util.XmlParser;
 
+import javax.annotation.PostConstruct;
+import javax.xml.bind.DataBindingException;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class XmlParserImpl implements XmlParser {
 
-    private JAXBContext jaxbContext;
+    private static final String DTO_BASE_PACKAGE = "softuni.exam.models.dto";
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    private final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, BlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, BlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerRootSeedDtos() throws JAXBException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(XmlRootElement.class));
+
+        for (BeanDefinition beanDefinition : scanner.findCandidateComponents(DTO_BASE_PACKAGE)) {
+            getContext(ClassUtils.resolveClassName(beanDefinition.getBeanClassName(), getClass().getClassLoader()));
+        }
+    }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T fromFile(String filePath, Class<T> tClass) throws JAXBException, FileNotFoundException {
-        jaxbContext = JAXBContext.newInstance(tClass);
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            throw new FileNotFoundException(filePath);
+        }
+
+        Unmarshaller unmarshaller = borrowUnmarshaller(tClass);
+        try (InputStream inputStream = openTracked(file.toPath())) {
+            return tClass.cast(unmarshaller.unmarshal(inputStream));
+        } catch (IOException e) {
+            throw new JAXBException(e);
+        } finally {
+            unmarshallers.get(tClass).offer(unmarshaller);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> stream(String filePath, String elementName, Class<T> tClass) throws JAXBException, IOException {
+        InputStream inputStream = openTracked(Path.of(filePath));
+        XMLStreamReader reader = null;
 
-        return (T) unmarshaller.unmarshal(new FileReader(filePath));
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(inputStream);
+
+            return elementStream(inputStream, reader, elementName, borrowUnmarshaller(tClass), tClass);
+        } catch (XMLStreamException e) {
+            closeAfterFailure(inputStream, reader, e);
+            throw new JAXBException(e);
+        } catch (JAXBException | RuntimeException e) {
+            closeAfterFailure(inputStream, reader, e);
+            throw e;
+        }
     }
 
     @Override
     public <T> void writeToFile(String filePath, T entity) throws JAXBException {
+        Class<?> rootClass = entity.getClass();
+
+        Marshaller marshaller = borrowMarshaller(rootClass);
+        try {
+            marshaller.marshal(entity, new File(filePath));
+        } finally {
+            marshallers.get(rootClass).offer(marshaller);
+        }
+    }
+
+    private <T> Stream<T> elementStream(InputStream inputStream, XMLStreamReader reader, String elementName,
+                                        Unmarshaller unmarshaller, Class<T> tClass) {
+        return StreamSupport.stream(elementSpliterator(reader, elementName, unmarshaller, tClass), false)
+                .onClose(() -> {
+                    unmarshallers.get(tClass).offer(unmarshaller);
+
+                    try {
+                        reader.close();
+                        inputStream.close();
+                    } catch (XMLStreamException | IOException e) {
+                        throw new DataBindingException(e);
+                    }
+                });
+    }
+
+    // The stream was never handed out, so nothing else will close it; close failures ride along on the original one
+    private static void closeAfterFailure(InputStream inputStream, XMLStreamReader reader, Exception failure) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                failure.addSuppressed(e);
+            }
+        }
+
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static InputStream openTracked(Path path) throws IOException {
+        return new BufferedInputStream(ImportProgress.current().track(path,
+                ImportCursor.current().track(path, Files.newInputStream(path))), STREAM_BUFFER_SIZE);
+    }
+
+    private JAXBContext getContext(Class<?> rootClass) throws JAXBException {
+        JAXBContext context = contexts.get(rootClass);
+
+        if (context == null) {
+            context = JAXBContext.newInstance(rootClass);
+            JAXBContext registered = contexts.putIfAbsent(rootClass, context);
+
+            if (registered != null) {
+                context = registered;
+            }
+        }
+
+        return context;
+    }
+
+    private Unmarshaller borrowUnmarshaller(Class<?> rootClass) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers
+                .computeIfAbsent(rootClass, key -> new ArrayBlockingQueue<>(POOL_SIZE))
+                .poll();
+
+        return unmarshaller != null ? unmarshaller : getContext(rootClass).createUnmarshaller();
+    }
+
+    private Marshaller borrowMarshaller(Class<?> rootClass) throws JAXBException {
+        Marshaller marshaller = marshallers
+                .computeIfAbsent(rootClass, key -> new ArrayBlockingQueue<>(POOL_SIZE))
+                .poll();
+
+        if (marshaller == null) {
+            marshaller = getContext(rootClass).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+
+        return marshaller;
+    }
+
+    private static <T> Spliterator<T> elementSpliterator(XMLStreamReader reader, String elementName,
+                                                         Unmarshaller unmarshaller, Class<T> tClass) {
+        return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    while (reader.hasNext()) {
+                        if (reader.isStartElement() && reader.getLocalName().equals(elementName)) {
+                            action.accept(unmarshaller.unmarshal(reader, tClass).getValue());
+                            return true;
+                        }
+
+                        reader.next();
+                    }
+
+                    return false;
+                } catch (XMLStreamException | JAXBException e) {
+                    throw new DataBindingException(e);
+                }
+            }
+        };
+    }
 
-        jaxbContext = JAXBContext.newInstance(entity.getClass());
-        Marshaller marshaller = jaxbContext.createMarshaller();
-        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
 
-        marshaller.marshal(entity, new File(filePath));
+        return factory;
     }
 }
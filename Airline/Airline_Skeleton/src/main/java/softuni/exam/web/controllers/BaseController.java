@@ -1,9 +1,22 @@
 package softuni.exam.web.controllers;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.ModelAndView;
 
 public abstract class BaseController {
 
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Rejects an empty or negative page and caps a large one, so a single request can't ask for the whole table
+    public int pageSize(int size) {
+        if (size <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be positive");
+        }
+
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     public ModelAndView view(String view) {
         ModelAndView modelAndView = new ModelAndView();
         modelAndView.setViewName("fragments/base-layout");
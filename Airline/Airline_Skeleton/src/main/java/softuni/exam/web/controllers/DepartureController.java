@@ -0,0 +1,39 @@
+package softuni.exam.web.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import softuni.exam.models.dto.view.DepartureViewDto;
+import softuni.exam.service.DepartureBoardService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Controller
+@RequestMapping("/departures")
+public class DepartureController extends BaseController {
+
+    private final DepartureBoardService departureBoardService;
+
+    @Autowired
+    public DepartureController(DepartureBoardService departureBoardService) {
+        this.departureBoardService = departureBoardService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DepartureViewDto>> departures(@RequestParam String town,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterTakeoff,
+                                                             @RequestParam(required = false) Long afterId,
+                                                             @RequestParam(defaultValue = "100") int size) {
+        LocalDateTime since = from == null ? LocalDateTime.now() : from;
+        LocalDateTime before = until == null ? since.plusDays(1) : until;
+
+        return ResponseEntity.ok(this.departureBoardService.getDepartures(town, since, before, afterTakeoff, afterId, super.pageSize(size)));
+    }
+}
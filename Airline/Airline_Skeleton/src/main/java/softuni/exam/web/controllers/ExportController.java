@@ -1,11 +1,24 @@
 package softuni.exam.web.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import softuni.exam.models.dto.view.PassengerTicketsCountViewDto;
 import softuni.exam.service.PassengerService;
+import softuni.exam.util.ImportOrchestrator;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Controller
 @RequestMapping("/export")
@@ -13,10 +26,12 @@ public class ExportController extends BaseController {
 
 
     private final PassengerService passengerService;
+    private final ImportOrchestrator importOrchestrator;
 
     @Autowired
-    public ExportController(PassengerService passengerService) {
+    public ExportController(PassengerService passengerService, ImportOrchestrator importOrchestrator) {
         this.passengerService = passengerService;
+        this.importOrchestrator = importOrchestrator;
     }
 
 
@@ -27,4 +42,36 @@ public class ExportController extends BaseController {
 
         return super.view("export/export-passengers-by-tickets.html","passengers", passengers);
     }
+
+    @GetMapping("/passengers-by-tickets/stream")
+    public ResponseEntity<StreamingResponseBody> streamPassengersByTickets() {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            this.passengerService.writePassengersOrderByTicketsCountDescendingThenByEmail(writer);
+        };
+
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    @GetMapping("/passengers-by-tickets/page")
+    public ResponseEntity<List<PassengerTicketsCountViewDto>> pagePassengersByTickets(@RequestParam(required = false) Long afterTicketsCount,
+                                                                                      @RequestParam(required = false) String afterEmail,
+                                                                                      @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(this.passengerService
+                .getPassengersOrderByTicketsCountDescendingThenByEmailPage(afterTicketsCount, afterEmail, super.pageSize(size)));
+    }
+
+    // Runs in the tickets import's single-flight slot, so a recount never interleaves with a tickets import
+    @PostMapping("/passengers-by-tickets/recount")
+    public ResponseEntity<Void> recountPassengerTickets() throws Exception {
+        this.importOrchestrator.runExclusively("tickets", () -> {
+            this.passengerService.recountTickets();
+
+            return null;
+        });
+
+        return ResponseEntity.noContent().build();
+    }
 }
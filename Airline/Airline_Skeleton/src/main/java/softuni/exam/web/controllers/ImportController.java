@@ -1,35 +1,58 @@
 package softuni.exam.web.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import softuni.exam.models.dto.view.ImportJobViewDto;
+import softuni.exam.service.ImportJobService;
 import softuni.exam.service.PassengerService;
 import softuni.exam.service.PlaneService;
 import softuni.exam.service.TicketService;
 import softuni.exam.service.TownService;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportOrchestrator;
 
-import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 
 @Controller
 @RequestMapping("/import")
 public class ImportController extends BaseController {
 
+    private static final String ALL_ENTITIES = "all";
+
     private final PassengerService passengerService;
     private final PlaneService planeService;
     private final TicketService ticketService;
     private final TownService townService;
+    private final ImportMetrics importMetrics;
+    private final ImportJobService importJobService;
+    private final ImportOrchestrator importOrchestrator;
+    private final long jobEventsTimeoutMillis;
 
     @Autowired
-    public ImportController(PassengerService passengerService, PlaneService planeService, TicketService ticketService, TownService townService) {
+    public ImportController(PassengerService passengerService, PlaneService planeService, TicketService ticketService, TownService townService, ImportMetrics importMetrics, ImportJobService importJobService, ImportOrchestrator importOrchestrator, @Value("${import.jobs.events-timeout-ms}") long jobEventsTimeoutMillis) {
         this.passengerService = passengerService;
         this.planeService = planeService;
         this.ticketService = ticketService;
         this.townService = townService;
+        this.importMetrics = importMetrics;
+        this.importJobService = importJobService;
+        this.importOrchestrator = importOrchestrator;
+        this.jobEventsTimeoutMillis = jobEventsTimeoutMillis;
     }
 
 
@@ -56,6 +79,12 @@ public class ImportController extends BaseController {
     }
 
 
+    @GetMapping("/stats")
+    public ModelAndView importStats() {
+        return super.view("import-stats", "stats", this.importMetrics.getStats());
+    }
+
+
     @GetMapping("/planes")
     public ModelAndView importPlanes() throws IOException {
         String fileContent = this.planeService.readPlanesFileContent();
@@ -63,8 +92,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/planes")
-    public ModelAndView importPlanesConfirm() throws JAXBException, IOException {
-        System.out.println(this.planeService.importPlanes());
+    public ModelAndView importPlanesConfirm() {
+        submitImportJob("planes");
 
         return super.redirect("/import/xml");
     }
@@ -77,8 +106,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/tickets")
-    public ModelAndView importTicketsConfirm() throws JAXBException, FileNotFoundException, IOException {
-        System.out.println(this.ticketService.importTickets());
+    public ModelAndView importTicketsConfirm() {
+        submitImportJob("tickets");
 
         return super.redirect("/import/xml");
     }
@@ -91,8 +120,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/towns")
-    public ModelAndView importTownsConfirm() throws IOException {
-        System.out.println(this.townService.importTowns());
+    public ModelAndView importTownsConfirm() {
+        submitImportJob("towns");
         return super.redirect("/import/json");
     }
 
@@ -104,8 +133,74 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/passengers")
-    public ModelAndView importPassengersConfirm() throws IOException, JAXBException {
-        System.out.println(this.passengerService.importPassengers());
+    public ModelAndView importPassengersConfirm() {
+        submitImportJob("passengers");
         return super.redirect("/import/json");
     }
+
+    @PostMapping("/all")
+    public ModelAndView importAllConfirm() {
+        submitImportJob(ALL_ENTITIES);
+
+        return super.redirect("/");
+    }
+
+    @PostMapping("/jobs/{entity}")
+    public ResponseEntity<ImportJobViewDto> importJob(@PathVariable String entity) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(submitImportJob(entity));
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImportJobViewDto> importJobProgress(@PathVariable String id) {
+        return ResponseEntity.of(this.importJobService.getJob(id));
+    }
+
+    @GetMapping(path = "/jobs/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> importJobEvents(@PathVariable String id) {
+        SseEmitter emitter = new SseEmitter(this.jobEventsTimeoutMillis);
+        emitter.onTimeout(emitter::complete);
+
+        boolean subscribed = this.importJobService.subscribe(id, job -> {
+            try {
+                emitter.send(job, MediaType.APPLICATION_JSON);
+
+                if (job.isFinished()) {
+                    emitter.complete();
+                }
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return subscribed ? ResponseEntity.ok(emitter) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(path = "/jobs/{id}/report", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> importJobReport(@PathVariable String id) {
+        return ResponseEntity.of(this.importJobService.getReport(id));
+    }
+
+    @DeleteMapping("/jobs/{id}")
+    public ResponseEntity<ImportJobViewDto> cancelImportJob(@PathVariable String id) {
+        return ResponseEntity.of(this.importJobService.cancel(id));
+    }
+
+    private ImportJobViewDto submitImportJob(String entity) {
+        Callable<String> importTask;
+
+        if (ALL_ENTITIES.equals(entity)) {
+            importTask = this.importOrchestrator::importAll;
+        } else if (this.importOrchestrator.getEntities().contains(entity)) {
+            importTask = () -> this.importOrchestrator.importEntity(entity);
+        } else {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown import " + entity);
+        }
+
+        try {
+            return this.importJobService.submit(entity, importTask);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many import jobs", e);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package softuni.exam.web.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import softuni.exam.models.dto.view.RouteRevenueViewDto;
+import softuni.exam.service.RevenueService;
+import softuni.exam.util.ImportOrchestrator;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Controller
+@RequestMapping("/revenue")
+public class RevenueController extends BaseController {
+
+    private final RevenueService revenueService;
+    private final ImportOrchestrator importOrchestrator;
+
+    @Autowired
+    public RevenueController(RevenueService revenueService, ImportOrchestrator importOrchestrator) {
+        this.revenueService = revenueService;
+        this.importOrchestrator = importOrchestrator;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<RouteRevenueViewDto>> revenue(@RequestParam String from,
+                                                             @RequestParam String to,
+                                                             @RequestParam String airline,
+                                                             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate since,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until) {
+        return ResponseEntity.ok(this.revenueService.getRevenue(from, to, airline, since, until == null ? since : until));
+    }
+
+    // Runs in the tickets import's single-flight slot, so a rebuild never interleaves with a tickets import
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() throws Exception {
+        this.importOrchestrator.runExclusively("tickets", () -> {
+            this.revenueService.rebuild();
+
+            return null;
+        });
+
+        return ResponseEntity.noContent().build();
+    }
+}
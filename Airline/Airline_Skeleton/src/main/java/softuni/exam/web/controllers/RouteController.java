@@ -0,0 +1,53 @@
+package softuni.exam.web.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import softuni.exam.models.dto.view.ItineraryViewDto;
+import softuni.exam.service.RouteService;
+import softuni.exam.util.RouteCriteria;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Controller
+@RequestMapping("/routes")
+public class RouteController extends BaseController {
+
+    private final RouteService routeService;
+
+    @Autowired
+    public RouteController(RouteService routeService) {
+        this.routeService = routeService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ItineraryViewDto> findItinerary(@RequestParam String from,
+                                                          @RequestParam String to,
+                                                          @RequestParam(defaultValue = "CHEAPEST") RouteCriteria criteria,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime departAfter,
+                                                          @RequestParam(defaultValue = "${routes.min-connection-minutes}") long minConnectionMinutes) {
+        if (minConnectionMinutes < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Minimum connection time must not be negative");
+        }
+
+        ItineraryViewDto itinerary = this.routeService
+                .findItinerary(from, to, criteria, departAfter, Duration.ofMinutes(minConnectionMinutes));
+
+        return itinerary == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(itinerary);
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        this.routeService.rebuild();
+
+        return ResponseEntity.noContent().build();
+    }
+}
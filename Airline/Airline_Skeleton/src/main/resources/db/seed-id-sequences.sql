@@ -0,0 +1,21 @@
+-- Ids come from one <entity>_seq table per entity, which ddl-auto=update creates starting at 1. Tables filled while ids
+-- were still IDENTITY columns already hold those values, so every sequence is moved past its table's highest id before
+-- the first insert. Sequences that are already ahead are left alone, so the script can run on every start
+
+UPDATE town_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM towns)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM towns);
+
+UPDATE passenger_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM passengers)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM passengers);
+
+UPDATE plane_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM planes)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM planes);
+
+UPDATE ticket_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM tickets)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM tickets);
+
+UPDATE route_revenue_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM route_revenue)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM route_revenue);
+
+UPDATE import_checkpoint_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM import_checkpoint)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM import_checkpoint);
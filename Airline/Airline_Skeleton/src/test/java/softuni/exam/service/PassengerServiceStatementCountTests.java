@@ -0,0 +1,108 @@
+package softuni.exam.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+import softuni.exam.models.dto.view.PassengerTicketsCountViewDto;
+import softuni.exam.models.entity.Passenger;
+import softuni.exam.models.entity.Town;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.util.StatementCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("bench")
+@Transactional
+public class PassengerServiceStatementCountTests {
+
+    private static final int FEW_PASSENGERS = 10;
+    private static final int MANY_PASSENGERS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private PassengerService passengerService;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private int seeded;
+
+    @Test
+    public void passengersByTicketsCountIssueTheSameStatementsForAnyNumberOfPassengers() {
+        seedPassengers(FEW_PASSENGERS);
+        long few = statementCounter.countStatements(passengerService::getPassengersOrderByTicketsCountDescendingThenByEmail);
+
+        seedPassengers(MANY_PASSENGERS);
+        long many = statementCounter.countStatements(passengerService::getPassengersOrderByTicketsCountDescendingThenByEmail);
+
+        assertThat(few).isLessThanOrEqualTo(1);
+        assertThat(many).isEqualTo(few);
+    }
+
+    @Test
+    public void passengersByTicketsCountPageIssuesTheSameStatementsForAnyNumberOfPassengers() {
+        seedPassengers(FEW_PASSENGERS);
+        long few = countPageStatements();
+
+        seedPassengers(MANY_PASSENGERS);
+        long many = countPageStatements();
+
+        assertThat(few).isLessThanOrEqualTo(2);
+        assertThat(many).isEqualTo(few);
+    }
+
+    // The first page and the page after its last row, so the keyset query is counted as well
+    private long countPageStatements() {
+        return statementCounter.countStatements(() -> {
+            List<PassengerTicketsCountViewDto> first = passengerService.getPassengersOrderByTicketsCountDescendingThenByEmailPage(null, null, PAGE_SIZE);
+            PassengerTicketsCountViewDto last = first.get(first.size() - 1);
+
+            passengerService.getPassengersOrderByTicketsCountDescendingThenByEmailPage(last.getTicketsCount(), last.getEmail(), PAGE_SIZE);
+        });
+    }
+
+    // Every other passenger gets a few tickets counted, so the order and the keyset cross different ticket counts
+    private void seedPassengers(int count) {
+        Town town = new Town();
+        town.setName("Statement Count Town " + seeded);
+        town.setPopulation(1_000);
+        townRepository.save(town);
+
+        List<Passenger> passengers = new ArrayList<>();
+
+        for (int i = 0; i < count; i++, seeded++) {
+            Passenger passenger = new Passenger();
+            passenger.setFirstName("First" + seeded);
+            passenger.setLastName("Last" + seeded);
+            passenger.setAge(30);
+            passenger.setPhoneNumber("+359 (88) 000-0000");
+            passenger.setEmail(String.format("statement.count.%05d@example.com", seeded));
+            passenger.setTown(town);
+            passengers.add(passenger);
+        }
+
+        passengerRepository.saveAll(passengers);
+        passengerRepository.flush();
+        passengerRepository.addTickets(passengers.stream()
+                .filter(passenger -> passenger.getId() % 2 == 0)
+                .map(Passenger::getId)
+                .collect(Collectors.toList()), 3);
+    }
+}
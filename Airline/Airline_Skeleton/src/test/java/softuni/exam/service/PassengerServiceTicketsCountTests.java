@@ -0,0 +1,102 @@
+package softuni.exam.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import softuni.exam.repository.ImportCheckpointRepository;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.PlaneRepository;
+import softuni.exam.repository.RouteRevenueRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@ActiveProfiles("bench")
+public class PassengerServiceTicketsCountTests {
+
+    private static final String OUT_OF_SYNC_PASSENGERS = "SELECT COUNT(*) FROM passengers p " +
+            "WHERE p.tickets_count <> (SELECT COUNT(*) FROM tickets t WHERE t.passenger_id = p.id)";
+
+    @Autowired
+    private TownService townService;
+
+    @Autowired
+    private PassengerService passengerService;
+
+    @Autowired
+    private PlaneService planeService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private RouteRevenueRepository routeRevenueRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private PlaneRepository planeRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The imports commit, so the tables are cleared on both sides instead of rolled back
+    @Before
+    @After
+    public void clearTables() {
+        routeRevenueRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+        passengerRepository.deleteAllInBatch();
+        planeRepository.deleteAllInBatch();
+        townRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void ticketsImportKeepsEveryPassengersTicketsCountInSync() throws Exception {
+        townService.importTowns();
+        passengerService.importPassengers();
+        planeService.importPlanes();
+        ticketService.importTickets();
+
+        Long counted = jdbcTemplate.queryForObject("SELECT SUM(tickets_count) FROM passengers", Long.class);
+
+        assertThat(ticketRepository.count()).isPositive();
+        assertThat(counted).isEqualTo(ticketRepository.count());
+        assertThat(jdbcTemplate.queryForObject(OUT_OF_SYNC_PASSENGERS, Long.class)).isZero();
+    }
+
+    @Test
+    public void recountRestoresTicketsCountsChangedBehindTheService() throws Exception {
+        townService.importTowns();
+        passengerService.importPassengers();
+        planeService.importPlanes();
+        ticketService.importTickets();
+
+        jdbcTemplate.update("UPDATE passengers SET tickets_count = 0");
+        assertThat(jdbcTemplate.queryForObject(OUT_OF_SYNC_PASSENGERS, Long.class)).isPositive();
+
+        passengerService.recountTickets();
+
+        assertThat(jdbcTemplate.queryForObject(OUT_OF_SYNC_PASSENGERS, Long.class)).isZero();
+    }
+}
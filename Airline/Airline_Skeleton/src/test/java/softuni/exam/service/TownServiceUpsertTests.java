@@ -0,0 +1,123 @@
+package softuni.exam.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.FileSystemUtils;
+import softuni.exam.repository.ImportCheckpointRepository;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.PlaneRepository;
+import softuni.exam.repository.RouteRevenueRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.util.StatementCounter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "import.files-dir=" + TownServiceUpsertTests.FILES_DIR)
+@ActiveProfiles("bench")
+public class TownServiceUpsertTests {
+
+    static final String FILES_DIR = "target/test-files";
+
+    private static final Path TOWNS_FILE = Path.of(FILES_DIR, "json/towns.json");
+
+    @Autowired
+    private TownService townService;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private RouteRevenueRepository routeRevenueRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private PlaneRepository planeRepository;
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    // Every test gets its own copy of the import files to change, and empty tables to import them into
+    @Before
+    public void copyFiles() throws IOException {
+        FileSystemUtils.deleteRecursively(Path.of(FILES_DIR));
+        FileSystemUtils.copyRecursively(Path.of("src/main/resources/files"), Path.of(FILES_DIR));
+        clearTables();
+    }
+
+    @After
+    public void clearTables() {
+        routeRevenueRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+        passengerRepository.deleteAllInBatch();
+        planeRepository.deleteAllInBatch();
+        townRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void reimportingAChangedFileUpdatesOnlyTheChangedTown() throws IOException {
+        long[] firstImport = countWrites();
+        long towns = townRepository.count();
+
+        assertThat(firstImport[0]).isPositive();
+        assertThat(firstImport[1]).isZero();
+
+        String content = Files.readString(TOWNS_FILE);
+        Files.writeString(TOWNS_FILE, content.replace("\"population\": 3258941", "\"population\": 3258942"));
+
+        assertThat(countWrites()).containsExactly(0L, 1L);
+        assertThat(townRepository.count()).isEqualTo(towns);
+        assertThat(townRepository.findByName("Paris").getPopulation()).isEqualTo(3258942);
+    }
+
+    // With the checkpoint gone the file is imported again, and every town matches its stored content hash
+    @Test
+    public void reimportingAnUnchangedFileWritesNothing() throws IOException {
+        townService.importTowns();
+        long towns = townRepository.count();
+
+        importCheckpointRepository.deleteAllInBatch();
+
+        assertThat(countWrites()).containsExactly(0L, 0L);
+        assertThat(townRepository.count()).isEqualTo(towns);
+    }
+
+    // Inserts and updates of the towns table during one towns import
+    private long[] countWrites() {
+        long[] writes = new long[2];
+
+        writes[1] = statementCounter.countStatements("update", "towns",
+                () -> writes[0] = statementCounter.countStatements("insert", "towns", this::importTowns));
+
+        return writes;
+    }
+
+    private void importTowns() {
+        try {
+            townService.importTowns();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package softuni.exam.util;
+
+import org.junit.Test;
+import softuni.exam.models.dto.view.DepartureViewDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DepartureIndexTests {
+
+    private static final String SOFIA = "Sofia";
+    private static final String VARNA = "Varna";
+
+    // A three hour window opened at 22:30, so it starts at 22:00 and crosses midnight
+    private static final LocalDateTime OPENED = LocalDateTime.of(2026, 10, 18, 22, 30);
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2026, 10, 18, 22, 0);
+    private static final LocalDateTime MIDNIGHT = LocalDateTime.of(2026, 10, 19, 0, 0);
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2026, 10, 19, 1, 0);
+    private static final int HOURS = 3;
+
+    private static final List<DepartureViewDto> DEPARTURES = Arrays.asList(
+            departure(1, SOFIA, WINDOW_START.minusSeconds(1)),
+            departure(2, SOFIA, WINDOW_START),
+            departure(3, SOFIA, MIDNIGHT.minusSeconds(1)),
+            departure(5, SOFIA, MIDNIGHT),
+            departure(4, SOFIA, MIDNIGHT),
+            departure(6, SOFIA, WINDOW_END.minusSeconds(1)),
+            departure(7, SOFIA, WINDOW_END),
+            departure(8, VARNA, MIDNIGHT));
+
+    private final DepartureIndex index = DepartureIndex.build(OPENED, HOURS, DEPARTURES);
+
+    @Test
+    public void windowStartsOnTheHourAndExcludesItsEnd() {
+        assertThat(index.getWindowStart()).isEqualTo(WINDOW_START);
+        assertThat(index.getWindowEnd()).isEqualTo(WINDOW_END);
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.covers(WINDOW_START, WINDOW_END)).isTrue();
+        assertThat(index.covers(WINDOW_START.minusSeconds(1), WINDOW_END)).isFalse();
+        assertThat(index.covers(WINDOW_START, WINDOW_END.plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    public void findFromTheWindowStartReturnsTheWholeBoardAcrossMidnight() {
+        assertThat(ticketIds(index.find(SOFIA, WINDOW_START, 0, WINDOW_END, 100))).containsExactly(2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    public void findFromTheMidnightBucketStartsAtItsFirstDeparture() {
+        assertThat(ticketIds(index.find(SOFIA, MIDNIGHT, 0, WINDOW_END, 100))).containsExactly(4L, 5L, 6L);
+        assertThat(ticketIds(index.find(SOFIA, MIDNIGHT.minusSeconds(1), 0, WINDOW_END, 100))).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    public void findResumesAfterTheKeysetCursorWithinTheSameTakeoff() {
+        assertThat(ticketIds(index.find(SOFIA, MIDNIGHT, 4, WINDOW_END, 100))).containsExactly(5L, 6L);
+        assertThat(ticketIds(index.find(SOFIA, MIDNIGHT, 5, WINDOW_END, 100))).containsExactly(6L);
+    }
+
+    @Test
+    public void findStopsBeforeUntil() {
+        assertThat(ticketIds(index.find(SOFIA, WINDOW_START, 0, MIDNIGHT, 100))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void findClampsCursorsOutsideTheWindow() {
+        assertThat(ticketIds(index.find(SOFIA, WINDOW_START.minusHours(5), 0, WINDOW_END, 100))).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(index.find(SOFIA, WINDOW_END.plusHours(5), 0, WINDOW_END.plusHours(6), 100)).isEmpty();
+    }
+
+    @Test
+    public void findReturnsAtMostTheLimit() {
+        assertThat(ticketIds(index.find(SOFIA, WINDOW_START, 0, WINDOW_END, 2))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void findOnlyReturnsTheRequestedTown() {
+        assertThat(ticketIds(index.find(VARNA, WINDOW_START, 0, WINDOW_END, 100))).containsExactly(8L);
+        assertThat(index.find("Burgas", WINDOW_START, 0, WINDOW_END, 100)).isEmpty();
+    }
+
+    @Test
+    public void withReplacesADepartureForTheSameTicket() {
+        DepartureIndex moved = index.with(Arrays.asList(departure(2, SOFIA, WINDOW_END.minusMinutes(30))));
+
+        assertThat(moved.size()).isEqualTo(index.size());
+        assertThat(ticketIds(moved.find(SOFIA, WINDOW_START, 0, WINDOW_END, 100))).containsExactly(3L, 4L, 5L, 2L, 6L);
+    }
+
+    private static DepartureViewDto departure(long ticketId, String fromTown, LocalDateTime takeoff) {
+        return new DepartureViewDto(ticketId, "serial-" + ticketId, fromTown, "Plovdiv", takeoff, BigDecimal.TEN, "PLANE");
+    }
+
+    private static List<Long> ticketIds(List<DepartureViewDto> departures) {
+        return departures.stream()
+                .map(DepartureViewDto::getTicketId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,194 @@
+package softuni.exam.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.FileSystemUtils;
+import softuni.exam.models.dto.json.PassengerSeedDto;
+import softuni.exam.models.entity.ImportCheckpoint;
+import softuni.exam.models.entity.Passenger;
+import softuni.exam.repository.ImportCheckpointRepository;
+import softuni.exam.repository.PassengerRepository;
+import softuni.exam.repository.PlaneRepository;
+import softuni.exam.repository.RouteRevenueRepository;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.repository.TownRepository;
+import softuni.exam.service.PassengerService;
+import softuni.exam.service.TownService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+
+// Chunks of five, so the thirty passengers in the file commit and checkpoint several times before the interruption
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "import.files-dir=" + ImportCheckpointsTests.FILES_DIR,
+        "import.chunk-size=5"})
+@ActiveProfiles("bench")
+public class ImportCheckpointsTests {
+
+    static final String FILES_DIR = "target/checkpoint-test-files";
+
+    private static final Path PASSENGERS_FILE = Path.of(FILES_DIR, "json/passengers.json");
+    private static final Pattern EMAIL = Pattern.compile("\"email\": \"([^\"]*)\"");
+    private static final int INTERRUPTED_RECORD = 20;
+
+    @Autowired
+    private TownService townService;
+
+    @Autowired
+    private PassengerService passengerService;
+
+    @Autowired
+    private ImportCheckpoints importCheckpoints;
+
+    @SpyBean
+    private ValidationUtil validationUtil;
+
+    @Autowired
+    private RouteRevenueRepository routeRevenueRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private PassengerRepository passengerRepository;
+
+    @Autowired
+    private PlaneRepository planeRepository;
+
+    @Autowired
+    private TownRepository townRepository;
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Before
+    public void importTowns() throws IOException {
+        FileSystemUtils.deleteRecursively(Path.of(FILES_DIR));
+        FileSystemUtils.copyRecursively(Path.of("src/main/resources/files"), Path.of(FILES_DIR));
+        clearTables();
+
+        townService.importTowns();
+    }
+
+    @After
+    public void clearTables() {
+        routeRevenueRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+        passengerRepository.deleteAllInBatch();
+        planeRepository.deleteAllInBatch();
+        townRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void interruptedImportResumesWithoutDuplicateOrMissingPassengers() throws IOException {
+        passengerService.importPassengers();
+        List<String> expected = passengerEmails();
+
+        passengerRepository.deleteAllInBatch();
+        importCheckpointRepository.deleteAllInBatch();
+
+        ImportCheckpoint checkpoint = interruptPassengersImport();
+
+        assertThat(passengerEmails()).isNotEmpty();
+        assertThat(fileEmails().subList(0, checkpoint.getRecordIndex().intValue())).containsAll(passengerEmails());
+
+        String resumed = passengerService.importPassengers();
+
+        assertThat(reportLines(resumed)).isEqualTo(fileEmails().size() - checkpoint.getRecordIndex());
+        assertThat(passengerEmails()).isEqualTo(expected);
+        assertThat(importCheckpoints.isPending(PASSENGERS_FILE.toString())).isFalse();
+    }
+
+    @Test
+    public void modifiedFileRestartsFromTheFirstRecord() throws IOException {
+        ImportCheckpoint checkpoint = interruptPassengersImport();
+
+        try (ImportCursor cursor = importCheckpoints.open(PASSENGERS_FILE.toString())) {
+            assertThat(cursor.getResumeIndex()).isEqualTo(checkpoint.getRecordIndex());
+        }
+
+        String content = Files.readString(PASSENGERS_FILE);
+        Files.writeString(PASSENGERS_FILE, content.replace("+7 (527) 135-4990", "+7 (527) 135-4991"));
+
+        try (ImportCursor cursor = importCheckpoints.open(PASSENGERS_FILE.toString())) {
+            assertThat(cursor.getResumeIndex()).isZero();
+            assertThat(cursor.isUnchanged()).isFalse();
+            assertThat(cursor.getDigest()).isNotEqualTo(checkpoint.getDigest());
+        }
+
+        assertThat(importCheckpoints.isPending(PASSENGERS_FILE.toString())).isFalse();
+        assertThat(reportLines(passengerService.importPassengers())).isEqualTo(fileEmails().size());
+    }
+
+    // Fails validating one record part way through the file; the chunks committed before it leave a pending checkpoint
+    private ImportCheckpoint interruptPassengersImport() throws IOException {
+        String interruptedEmail = fileEmails().get(INTERRUPTED_RECORD - 1);
+
+        doAnswer(invocation -> {
+            Object entity = invocation.getArgument(0);
+
+            if (entity instanceof PassengerSeedDto && interruptedEmail.equals(((PassengerSeedDto) entity).getEmail())) {
+                throw new IllegalStateException("Interrupted at " + interruptedEmail);
+            }
+
+            return invocation.callRealMethod();
+        }).when(validationUtil).isValid(any());
+
+        try {
+            assertThatThrownBy(() -> passengerService.importPassengers()).hasMessageContaining(interruptedEmail);
+        } finally {
+            reset(validationUtil);
+        }
+
+        ImportCheckpoint checkpoint = importCheckpointRepository.findBySource(PASSENGERS_FILE.toString()).orElseThrow();
+
+        assertThat(checkpoint.getCompleted()).isFalse();
+        assertThat(checkpoint.getRecordIndex()).isBetween(1L, (long) INTERRUPTED_RECORD - 1);
+        assertThat(importCheckpoints.isPending(PASSENGERS_FILE.toString())).isTrue();
+
+        return checkpoint;
+    }
+
+    private List<String> fileEmails() throws IOException {
+        Matcher matcher = EMAIL.matcher(Files.readString(PASSENGERS_FILE));
+        List<String> emails = new ArrayList<>();
+
+        while (matcher.find()) {
+            emails.add(matcher.group(1));
+        }
+
+        return emails;
+    }
+
+    private List<String> passengerEmails() {
+        return passengerRepository.findAll().stream()
+                .map(Passenger::getEmail)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static long reportLines(String report) {
+        return report.lines().count();
+    }
+}
@@ -0,0 +1,112 @@
+package softuni.exam.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RouteGraphTests {
+
+    private static final long SOFIA = 1;
+    private static final long VARNA = 2;
+    private static final long BURGAS = 3;
+    private static final long PLOVDIV = 4;
+
+    private static final long HOUR = 3_600;
+    private static final long MINUTE = 60;
+    private static final long TAKEOFF = 1_700_000_000L;
+    private static final long ANY_TIME = Long.MIN_VALUE;
+
+    // Sofia to Plovdiv: one expensive direct ticket, or three cheap legs through Varna and Burgas
+    private static final List<RouteEdge> NETWORK = Arrays.asList(
+            new RouteEdge(1, SOFIA, PLOVDIV, TAKEOFF, 500_00),
+            new RouteEdge(2, SOFIA, VARNA, TAKEOFF, 100_00),
+            new RouteEdge(3, VARNA, BURGAS, TAKEOFF + 2 * HOUR, 100_00),
+            new RouteEdge(4, BURGAS, PLOVDIV, TAKEOFF + 4 * HOUR, 100_00));
+
+    @Test
+    public void cheapestTakesTheCheaperConnectingTickets() {
+        RouteGraph graph = RouteGraph.empty().with(NETWORK);
+
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 0, RouteCriteria.CHEAPEST))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    public void fewestHopsTakesTheDirectTicket() {
+        RouteGraph graph = RouteGraph.empty().with(NETWORK);
+
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 0, RouteCriteria.FEWEST_HOPS))).containsExactly(1L);
+    }
+
+    @Test
+    public void departuresBeforeDepartAfterAreSkipped() {
+        RouteGraph graph = RouteGraph.empty().with(NETWORK);
+
+        assertThat(graph.plan(SOFIA, PLOVDIV, TAKEOFF + 1, 0, RouteCriteria.CHEAPEST)).isEmpty();
+    }
+
+    @Test
+    public void connectionsShorterThanTheMinimumArePruned() {
+        RouteGraph graph = RouteGraph.empty().with(Arrays.asList(
+                new RouteEdge(1, SOFIA, PLOVDIV, TAKEOFF, 500_00),
+                new RouteEdge(2, SOFIA, VARNA, TAKEOFF, 50_00),
+                new RouteEdge(3, VARNA, PLOVDIV, TAKEOFF + 10 * MINUTE, 50_00)));
+
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 30 * MINUTE, RouteCriteria.CHEAPEST))).containsExactly(1L);
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 10 * MINUTE, RouteCriteria.CHEAPEST))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void negativeConnectionTimeIsRejected() {
+        RouteGraph graph = RouteGraph.empty().with(NETWORK);
+
+        assertThatThrownBy(() -> graph.plan(SOFIA, PLOVDIV, ANY_TIME, -1, RouteCriteria.CHEAPEST))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void mergingAnExistingTicketReplacesItsEdge() {
+        RouteGraph graph = RouteGraph.empty().with(NETWORK)
+                .with(Arrays.asList(new RouteEdge(1, SOFIA, PLOVDIV, TAKEOFF, 100_00)));
+
+        List<RouteEdge> legs = graph.plan(SOFIA, PLOVDIV, ANY_TIME, 0, RouteCriteria.CHEAPEST);
+
+        assertThat(graph.getEdgeCount()).isEqualTo(NETWORK.size());
+        assertThat(ticketIds(legs)).containsExactly(1L);
+        assertThat(legs.get(0).getPrice()).isEqualTo(100_00);
+    }
+
+    @Test
+    public void mergingATicketMovedToAnotherRouteDropsItsOldEdge() {
+        RouteGraph graph = RouteGraph.empty().with(NETWORK)
+                .with(Arrays.asList(new RouteEdge(1, VARNA, SOFIA, TAKEOFF, 500_00)));
+
+        assertThat(graph.getEdgeCount()).isEqualTo(NETWORK.size());
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 0, RouteCriteria.FEWEST_HOPS))).containsExactly(2L, 3L, 4L);
+        assertThat(ticketIds(graph.plan(VARNA, SOFIA, ANY_TIME, 0, RouteCriteria.CHEAPEST))).containsExactly(1L);
+    }
+
+    @Test
+    public void mergingEdgeByEdgeMatchesMergingAtOnce() {
+        RouteGraph graph = RouteGraph.empty();
+
+        for (int i = NETWORK.size() - 1; i >= 0; i--) {
+            graph = graph.with(NETWORK.subList(i, i + 1));
+        }
+
+        assertThat(graph.getEdgeCount()).isEqualTo(NETWORK.size());
+        assertThat(graph.getTownCount()).isEqualTo(4);
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 0, RouteCriteria.CHEAPEST))).containsExactly(2L, 3L, 4L);
+        assertThat(ticketIds(graph.plan(SOFIA, PLOVDIV, ANY_TIME, 0, RouteCriteria.FEWEST_HOPS))).containsExactly(1L);
+    }
+
+    private static List<Long> ticketIds(List<RouteEdge> legs) {
+        return legs.stream()
+                .map(RouteEdge::getTicketId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,142 @@
+package softuni.exam.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import softuni.exam.models.entity.Plane;
+import softuni.exam.models.entity.Ticket;
+import softuni.exam.repository.TicketRepository;
+import softuni.exam.util.impl.SeatInventoryImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SeatInventoryTests {
+
+    private static final int CAPACITY = 10;
+    private static final int TICKETS_BEFORE_IMPORT = 4;
+    private static final int IMPORTED_TICKETS = 3;
+    private static final LocalDateTime TAKEOFF = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    private final TicketRepository ticketRepository = mock(TicketRepository.class);
+    private final SeatInventory seatInventory = new SeatInventoryImpl(ticketRepository);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private Plane plane;
+
+    @Before
+    public void setUp() {
+        plane = new Plane();
+        plane.setId(1L);
+        plane.setCapacity(CAPACITY);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // The first booking's count sees the tickets table before the import commits, and the import commits before the
+    // count returns, so its tickets only reach the counter through the import's afterCommit
+    @Test
+    public void importCommittingWhileTheFirstBookingCountsIsNeverOverSold() throws Exception {
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+
+        when(ticketRepository.countByPlaneIdAndTakeoff(any(), any())).thenAnswer(invocation -> {
+            counting.countDown();
+            assertThat(committed.await(5, TimeUnit.SECONDS)).isTrue();
+
+            return (long) TICKETS_BEFORE_IMPORT;
+        });
+
+        CompletableFuture<Boolean> firstBooking = CompletableFuture.supplyAsync(() -> seatInventory.tryReserve(plane, TAKEOFF), executor);
+
+        assertThat(counting.await(5, TimeUnit.SECONDS)).isTrue();
+        commitImport(IMPORTED_TICKETS);
+        committed.countDown();
+
+        assertThat(firstBooking.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TICKETS_BEFORE_IMPORT + IMPORTED_TICKETS + 1 + reserveAll()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    public void importCommittingAfterTheFirstBookingIsCounted() {
+        when(ticketRepository.countByPlaneIdAndTakeoff(any(), any())).thenReturn((long) TICKETS_BEFORE_IMPORT);
+
+        assertThat(seatInventory.tryReserve(plane, TAKEOFF)).isTrue();
+        commitImport(IMPORTED_TICKETS);
+
+        assertThat(TICKETS_BEFORE_IMPORT + IMPORTED_TICKETS + 1 + reserveAll()).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    public void concurrentBookingsNeverExceedCapacity() throws Exception {
+        when(ticketRepository.countByPlaneIdAndTakeoff(any(), any())).thenReturn((long) TICKETS_BEFORE_IMPORT);
+
+        ExecutorService bookers = Executors.newFixedThreadPool(8);
+        AtomicInteger reserved = new AtomicInteger();
+        List<CompletableFuture<Void>> bookings = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                bookings.add(CompletableFuture.runAsync(() -> {
+                    if (seatInventory.tryReserve(plane, TAKEOFF)) {
+                        reserved.incrementAndGet();
+                    }
+                }, bookers));
+            }
+
+            CompletableFuture.allOf(bookings.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        } finally {
+            bookers.shutdownNow();
+        }
+
+        assertThat(TICKETS_BEFORE_IMPORT + reserved.get()).isEqualTo(CAPACITY);
+    }
+
+    private int reserveAll() {
+        int reserved = 0;
+
+        while (seatInventory.tryReserve(plane, TAKEOFF)) {
+            reserved++;
+        }
+
+        return reserved;
+    }
+
+    // Stands in for an import chunk's transaction: the tickets are new, so only their afterCommit touches the counter
+    private void commitImport(int count) {
+        List<Ticket> tickets = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setPlane(plane);
+            ticket.setTakeoff(TAKEOFF);
+            tickets.add(ticket);
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            seatInventory.addTickets(tickets);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
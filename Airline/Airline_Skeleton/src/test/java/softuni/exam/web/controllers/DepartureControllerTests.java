@@ -0,0 +1,63 @@
+package softuni.exam.web.controllers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import softuni.exam.service.DepartureBoardService;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class DepartureControllerTests {
+
+    private final DepartureBoardService departureBoardService = mock(DepartureBoardService.class);
+
+    private MockMvc mockMvc;
+
+    @Before
+    public void setUp() {
+        when(departureBoardService.getDepartures(any(), any(), any(), any(), any(), anyInt())).thenReturn(Collections.emptyList());
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new DepartureController(departureBoardService)).build();
+    }
+
+    @Test
+    public void emptyPageIsRejected() throws Exception {
+        mockMvc.perform(get("/departures").param("town", "Sofia").param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(departureBoardService, never()).getDepartures(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    public void negativePageIsRejected() throws Exception {
+        mockMvc.perform(get("/departures").param("town", "Sofia").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void largePageIsCapped() throws Exception {
+        mockMvc.perform(get("/departures").param("town", "Sofia").param("size", "1000000"))
+                .andExpect(status().isOk());
+
+        verify(departureBoardService).getDepartures(eq("Sofia"), any(), any(), any(), any(), eq(BaseController.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    public void defaultPageIsPassedThrough() throws Exception {
+        mockMvc.perform(get("/departures").param("town", "Sofia"))
+                .andExpect(status().isOk());
+
+        verify(departureBoardService).getDepartures(eq("Sofia"), any(), any(), any(), any(), eq(100));
+    }
+}
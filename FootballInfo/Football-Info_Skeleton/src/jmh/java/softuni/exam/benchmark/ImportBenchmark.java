@@ -0,0 +1,82 @@
+package softuni.exam.benchmark;
+
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import softuni.exam.ExamApplication;
+import softuni.exam.repository.PictureRepository;
+import softuni.exam.repository.PlayerRepository;
+import softuni.exam.repository.TeamRepository;
+import softuni.exam.service.PictureService;
+import softuni.exam.service.PlayerService;
+import softuni.exam.service.TeamService;
+import softuni.exam.util.ImportMetrics;
+
+import javax.persistence.EntityManagerFactory;
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PictureService pictureService;
+    private TeamService teamService;
+    private PlayerService playerService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(ExamApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+
+        pictureService = context.getBean(PictureService.class);
+        teamService = context.getBean(TeamService.class);
+        playerService = context.getBean(PlayerService.class);
+    }
+
+    // Batch deletes bypass the second-level cache, so its regions are emptied too; a cached picture or team would
+    // otherwise point the next run's rows at a deleted id
+    @Setup(Level.Invocation)
+    public void clearTables() {
+        context.getBean(PlayerRepository.class).deleteAllInBatch();
+        context.getBean(TeamRepository.class).deleteAllInBatch();
+        context.getBean(PictureRepository.class).deleteAllInBatch();
+        context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    // Rows per second per entity, from the last run
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.getBean(ImportMetrics.class).getStats()
+                .forEach(stats -> System.out.printf("%s: %d rows/s%n", stats.getEntity(), stats.getRowsPerSecond()));
+
+        context.close();
+    }
+
+    @Benchmark
+    public String importAll() throws JAXBException, IOException {
+        return pictureService.importPictures()
+                + teamService.importTeams()
+                + playerService.importPlayers();
+    }
+}
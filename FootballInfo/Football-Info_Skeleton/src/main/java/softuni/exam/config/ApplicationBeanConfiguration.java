@@ -10,6 +10,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.ui.Model;
 import softuni.exam.util.ValidationUtil;
 
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -45,4 +48,13 @@ public class ApplicationBeanConfiguration {
         return modelMapper;
     }
 
+    @Bean
+    public ValidatorFactory validatorFactory() {
+        return Validation.buildDefaultValidatorFactory();
+    }
+
+    @Bean
+    public Validator validator(ValidatorFactory validatorFactory) {
+        return validatorFactory.getValidator();
+    }
 }
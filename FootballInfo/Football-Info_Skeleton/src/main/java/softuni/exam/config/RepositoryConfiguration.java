@@ -0,0 +1,10 @@
+package softuni.exam.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import softuni.exam.repository.impl.NaturalIdRepositoryImpl;
+
+@Configuration
+@EnableJpaRepositories(basePackages = "softuni.exam.repository", repositoryBaseClass = NaturalIdRepositoryImpl.class)
+public class RepositoryConfiguration {
+}
@@ -0,0 +1,42 @@
+package softuni.exam.domain.dto.view;
+
+import softuni.exam.util.ImportStage;
+
+import java.util.Map;
+
+public class ImportStatsViewDto {
+
+    private final String entity;
+    private final long imported;
+    private final long rejected;
+    private final long rowsPerSecond;
+    private final Map<ImportStage, Double> stageMillis;
+
+    public ImportStatsViewDto(String entity, long imported, long rejected, long rowsPerSecond, Map<ImportStage, Double> stageMillis) {
+        this.entity = entity;
+        this.imported = imported;
+        this.rejected = rejected;
+        this.rowsPerSecond = rowsPerSecond;
+        this.stageMillis = stageMillis;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public Map<ImportStage, Double> getStageMillis() {
+        return stageMillis;
+    }
+}
@@ -1,11 +1,20 @@
 package softuni.exam.domain.entities;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "pictures")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pictures")
+@NaturalIdCache(region = "pictures-natural-id")
 public class Picture extends BaseEntity{
 
     private String url;
@@ -13,6 +22,7 @@ public class Picture extends BaseEntity{
     public Picture() {
     }
 
+    @NaturalId
     @Column(nullable = false)
     public String getUrl() {
         return url;
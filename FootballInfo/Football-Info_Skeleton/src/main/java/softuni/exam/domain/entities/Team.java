@@ -1,10 +1,19 @@
 package softuni.exam.domain.entities;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import javax.persistence.*;
 import java.util.Set;
 
 @Entity
 @Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
+@NaturalIdCache(region = "teams-natural-id")
+@NamedEntityGraph(name = "Team.players", attributeNodes = @NamedAttributeNode("players"))
 public class Team extends BaseEntity{
 
     private String name;
@@ -14,6 +23,7 @@ public class Team extends BaseEntity{
     public Team() {
     }
 
+    @NaturalId
     @Column(nullable = false, length = 20)
     public String getName() {
         return name;
@@ -32,7 +42,7 @@ public class Team extends BaseEntity{
         this.picture = picture;
     }
 
-    @OneToMany(mappedBy = "team", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "team")
     public Set<Player> getPlayers() {
         return players;
     }
@@ -1,13 +1,14 @@
 package softuni.exam.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import softuni.exam.domain.entities.Picture;
 
 @Repository
-public interface PictureRepository extends JpaRepository<Picture, Long> {
+public interface PictureRepository extends NaturalIdRepository<Picture, Long> {
 
-    Picture findByUrl(String url);
+    default Picture findByUrl(String url) {
+        return findBySimpleNaturalId(url).orElse(null);
+    }
 
     boolean existsByUrl(String url);
 }
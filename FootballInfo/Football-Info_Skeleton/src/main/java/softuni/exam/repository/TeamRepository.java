@@ -1,15 +1,18 @@
 package softuni.exam.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.stereotype.Repository;
 import softuni.exam.domain.entities.Team;
 
-import java.util.Optional;
-
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends NaturalIdRepository<Team, Long> {
 
     boolean existsByName(String name);
 
-    Team findByName(String name);
+    @EntityGraph("Team.players")
+    Team findWithPlayersByName(String name);
+
+    default Team findByName(String name) {
+        return findBySimpleNaturalId(name).orElse(null);
+    }
 }
@@ -17,4 +17,6 @@ public interface TeamService {
     boolean checkIfEntityExistsByName(String teamName);
 
     Team findTeamByName(String teamName);
+
+    Team findTeamWithPlayersByName(String teamName);
 }
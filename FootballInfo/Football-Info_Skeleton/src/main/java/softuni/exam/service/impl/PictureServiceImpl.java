@@ -6,6 +6,11 @@ import softuni.exam.domain.dto.xml.PictureRootSeedDto;
 import softuni.exam.domain.entities.Picture;
 import softuni.exam.repository.PictureRepository;
 import softuni.exam.service.PictureService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 import softuni.exam.util.XmlParser;
 
@@ -21,12 +26,18 @@ public class PictureServiceImpl implements PictureService {
     private static final String PICTURES_FILE_PATH = "src/main/resources/files/xml/pictures.xml";
 
     private final PictureRepository pictureRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final XmlParser xmlParser;
     private final ValidationUtil validationUtil;
     private final ModelMapper modelMapper;
 
-    public PictureServiceImpl(PictureRepository pictureRepository, XmlParser xmlParser, ValidationUtil validationUtil, ModelMapper modelMapper) {
+    public PictureServiceImpl(PictureRepository pictureRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, XmlParser xmlParser, ValidationUtil validationUtil, ModelMapper modelMapper) {
         this.pictureRepository = pictureRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.xmlParser = xmlParser;
         this.validationUtil = validationUtil;
         this.modelMapper = modelMapper;
@@ -34,23 +45,18 @@ public class PictureServiceImpl implements PictureService {
 
     @Override
     public String importPictures() throws JAXBException, FileNotFoundException {
-        StringBuilder result = new StringBuilder();
-
-        xmlParser.fromFile(PICTURES_FILE_PATH, PictureRootSeedDto.class)
-                .getPictures()
-                .stream()
-                .filter(pictureSeedDto -> {
-                    boolean isValid = validationUtil.isValid(pictureSeedDto);
-
-                    result.append(isValid ? String.format("Successfully imported picture - %s",
-                            pictureSeedDto.getUrl())
-                            : "Invalid Picture").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(pictureSeedDto -> modelMapper.map(pictureSeedDto, Picture.class))
-                .forEach(pictureRepository::save);
-
-        return result.toString().trim();
+        long parseStart = System.nanoTime();
+        PictureRootSeedDto pictureRootSeedDto = xmlParser.fromFile(PICTURES_FILE_PATH, PictureRootSeedDto.class);
+        importMetrics.record(Picture.class, ImportStage.PARSE, System.nanoTime() - parseStart);
+
+        return importPipeline.run(Picture.class, pictureRootSeedDto.getPictures().stream(), pictureSeedDto -> {
+            if (!importMetrics.time(Picture.class, ImportStage.VALIDATE, () -> validationUtil.isValid(pictureSeedDto))) {
+                return ImportRecord.<Picture>rejected("Invalid Picture");
+            }
+
+            return ImportRecord.imported(importMetrics.time(Picture.class, ImportStage.MAP, () -> modelMapper.map(pictureSeedDto, Picture.class)),
+                    String.format("Successfully imported picture - %s", pictureSeedDto.getUrl()));
+        }, pictures -> chunkedSaver.saveAll(pictures, pictureRepository)).trim();
     }
 
     @Override
@@ -9,6 +9,11 @@ import softuni.exam.repository.PlayerRepository;
 import softuni.exam.service.PictureService;
 import softuni.exam.service.PlayerService;
 import softuni.exam.service.TeamService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 
 import java.io.IOException;
@@ -23,14 +28,20 @@ public class PlayerServiceImpl implements PlayerService {
     private static final String PLAYERS_FILE_PATH = "src/main/resources/files/json/players.json";
 
     private final PlayerRepository playerRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final Gson gson;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
     private final PictureService pictureService;
     private final TeamService teamService;
 
-    public PlayerServiceImpl(PlayerRepository playerRepository, Gson gson, ModelMapper modelMapper, ValidationUtil validationUtil, PictureService pictureService, TeamService teamService) {
+    public PlayerServiceImpl(PlayerRepository playerRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, Gson gson, ModelMapper modelMapper, ValidationUtil validationUtil, PictureService pictureService, TeamService teamService) {
         this.playerRepository = playerRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.gson = gson;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
@@ -40,30 +51,32 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public String importPlayers() throws IOException {
-        StringBuilder result = new StringBuilder();
+        String playersFileContent = readPlayersJsonFile();
 
-        Arrays.stream(gson.fromJson(readPlayersJsonFile(), PlayersSeedDto[].class))
-                .filter(playersSeedDto -> {
-                    boolean isValid = validationUtil.isValid(playersSeedDto)
-                            && checkIfPlayerPictureExists(playersSeedDto.getPicture().getUrl())
-                            && checkIfTeamExists(playersSeedDto.getTeam().getName())
-                            && checkIfTeamPictureExists(playersSeedDto.getTeam().getPicture().getUrl());
+        long parseStart = System.nanoTime();
+        PlayersSeedDto[] playersSeedDtos = gson.fromJson(playersFileContent, PlayersSeedDto[].class);
+        importMetrics.record(Player.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-                    result.append(isValid ? String.format("Successfully imported player: %s %s",
-                            playersSeedDto.getFirstName(), playersSeedDto.getLastName())
-                            : "Invalid Player").append(System.lineSeparator());
+        return importPipeline.run(Player.class, Arrays.stream(playersSeedDtos), playersSeedDto -> {
+            if (!importMetrics.time(Player.class, ImportStage.VALIDATE, () -> validationUtil.isValid(playersSeedDto)
+                    && checkIfPlayerPictureExists(playersSeedDto.getPicture().getUrl())
+                    && checkIfTeamExists(playersSeedDto.getTeam().getName())
+                    && checkIfTeamPictureExists(playersSeedDto.getTeam().getPicture().getUrl()))) {
+                return ImportRecord.<Player>rejected("Invalid Player");
+            }
 
-                    return isValid;
-                }).map(playersSeedDto -> {
-                    Player player = modelMapper.map(playersSeedDto, Player.class);
-                    player.setPicture(pictureService.findByUrl(playersSeedDto.getPicture().getUrl()));
-                    player.setTeam(teamService.findTeamByName(playersSeedDto.getTeam().getName()));
+            Player player = importMetrics.time(Player.class, ImportStage.MAP, () -> modelMapper.map(playersSeedDto, Player.class));
 
-                    return player;
-                }).forEach(playerRepository::save);
+            importMetrics.time(Player.class, ImportStage.RESOLVE, () -> {
+                player.setPicture(pictureService.findByUrl(playersSeedDto.getPicture().getUrl()));
+                player.setTeam(teamService.findTeamByName(playersSeedDto.getTeam().getName()));
 
+                return player;
+            });
 
-        return result.toString().trim();
+            return ImportRecord.imported(player, String.format("Successfully imported player: %s %s",
+                    playersSeedDto.getFirstName(), playersSeedDto.getLastName()));
+        }, players -> chunkedSaver.saveAll(players, playerRepository)).trim();
     }
 
     private boolean checkIfTeamPictureExists(String url) {
@@ -111,7 +124,7 @@ public class PlayerServiceImpl implements PlayerService {
 
         result.append("Team: North Hub").append(System.lineSeparator());
 
-        teamService.findTeamByName("North Hub")
+        teamService.findTeamWithPlayersByName("North Hub")
                 .getPlayers().forEach(player -> {
                     result.append(String.format("Player name: %s %s - %s\n" +
                             "Number: %d\n",
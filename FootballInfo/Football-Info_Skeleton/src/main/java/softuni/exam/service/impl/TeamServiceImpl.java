@@ -7,6 +7,11 @@ import softuni.exam.domain.entities.Team;
 import softuni.exam.repository.TeamRepository;
 import softuni.exam.service.PictureService;
 import softuni.exam.service.TeamService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 import softuni.exam.util.XmlParser;
 
@@ -22,13 +27,19 @@ public class TeamServiceImpl implements TeamService {
     private static final String TEAMS_FILE_PATH = "src/main/resources/files/xml/teams.xml";
 
     private final TeamRepository teamRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final XmlParser xmlParser;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
     private final PictureService pictureService;
 
-    public TeamServiceImpl(TeamRepository teamRepository, XmlParser xmlParser, ModelMapper modelMapper, ValidationUtil validationUtil, PictureService pictureService) {
+    public TeamServiceImpl(TeamRepository teamRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, XmlParser xmlParser, ModelMapper modelMapper, ValidationUtil validationUtil, PictureService pictureService) {
         this.teamRepository = teamRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.xmlParser = xmlParser;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
@@ -37,28 +48,21 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     public String importTeams() throws JAXBException, FileNotFoundException {
-        StringBuilder result = new StringBuilder();
+        long parseStart = System.nanoTime();
+        TeamRootSeedDto teamRootSeedDto = xmlParser.fromFile(TEAMS_FILE_PATH, TeamRootSeedDto.class);
+        importMetrics.record(Team.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-        xmlParser.fromFile(TEAMS_FILE_PATH, TeamRootSeedDto.class)
-                .getTeams()
-                .stream()
-                .filter(teamSeedDto -> {
-                    boolean isValid = validationUtil.isValid(teamSeedDto)
-                            && checkIfPictureExistsInDatabase(teamSeedDto.getPicture().getUrl());
+        return importPipeline.run(Team.class, teamRootSeedDto.getTeams().stream(), teamSeedDto -> {
+            if (!importMetrics.time(Team.class, ImportStage.VALIDATE, () -> validationUtil.isValid(teamSeedDto)
+                    && checkIfPictureExistsInDatabase(teamSeedDto.getPicture().getUrl()))) {
+                return ImportRecord.<Team>rejected("Invalid Team");
+            }
 
-                    result.append(isValid ? String.format("Successfully imported - %s",
-                            teamSeedDto.getName())
-                            : "Invalid Team").append(System.lineSeparator());
+            Team team = importMetrics.time(Team.class, ImportStage.MAP, () -> modelMapper.map(teamSeedDto, Team.class));
+            team.setPicture(importMetrics.time(Team.class, ImportStage.RESOLVE, () -> pictureService.findByUrl(teamSeedDto.getPicture().getUrl())));
 
-                    return isValid;
-                }).map(teamSeedDto -> {
-                    Team team = modelMapper.map(teamSeedDto, Team.class);
-                    team.setPicture(pictureService.findByUrl(teamSeedDto.getPicture().getUrl()));
-
-                    return team;
-                }).forEach(teamRepository::save);
-
-        return result.toString().trim();
+            return ImportRecord.imported(team, String.format("Successfully imported - %s", teamSeedDto.getName()));
+        }, teams -> chunkedSaver.saveAll(teams, teamRepository)).trim();
     }
 
     private boolean checkIfPictureExistsInDatabase(String url) {
@@ -85,4 +89,9 @@ public class TeamServiceImpl implements TeamService {
     public Team findTeamByName(String teamName) {
         return teamRepository.findByName(teamName);
     }
+
+    @Override
+    public Team findTeamWithPlayersByName(String teamName) {
+        return teamRepository.findWithPlayersByName(teamName);
+    }
 }
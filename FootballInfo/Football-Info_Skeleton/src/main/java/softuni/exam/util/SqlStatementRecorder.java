@@ -0,0 +1,6 @@
+package softuni.exam.util;
+
+public interface SqlStatementRecorder {
+
+    void record(String sql, long elapsedNanos, Object[] parameters, int batchSize);
+}
@@ -1,17 +1,51 @@
 package softuni.exam.util.impl;
 
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 import softuni.exam.util.ValidationUtil;
 
-import javax.validation.Validation;
+import javax.annotation.PostConstruct;
+import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Component
 public class ValidationUtilImpl implements ValidationUtil {
+
+    private static final String DTO_BASE_PACKAGE = "softuni.exam.domain.dto";
+    private static final Pattern SEED_DTO_PATTERN = Pattern.compile(".*SeedDto");
+
+    private final Validator validator;
+
+    public ValidationUtilImpl(Validator validator) {
+        this.validator = validator;
+    }
+
+    @PostConstruct
+    public void warmUpSeedDtoConstraints() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(SEED_DTO_PATTERN));
+
+        scanner.findCandidateComponents(DTO_BASE_PACKAGE)
+                .forEach(beanDefinition -> validator.getConstraintsForClass(
+                        ClassUtils.resolveClassName(beanDefinition.getBeanClassName(), getClass().getClassLoader())));
+    }
+
     @Override
     public <E> boolean isValid(E entity) {
-        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
-
         return validator.validate(entity).isEmpty();
     }
+
+    @Override
+    public <E> List<Set<ConstraintViolation<E>>> validateAll(Collection<E> entities) {
+        return entities.stream()
+                .map(entity -> validator.validate(entity))
+                .collect(Collectors.toList());
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.web.servlet.ModelAndView;
 import softuni.exam.service.PictureService;
 import softuni.exam.service.PlayerService;
 import softuni.exam.service.TeamService;
+import softuni.exam.util.ImportMetrics;
 
 import javax.xml.bind.JAXBException;
 import java.io.FileNotFoundException;
@@ -21,12 +22,14 @@ public class ImportController extends BaseController {
     private final PictureService pictureService;
     private final TeamService teamService;
     private final PlayerService playerService;
+    private final ImportMetrics importMetrics;
 
     @Autowired
-    public ImportController(PictureService pictureService, TeamService teamService, PlayerService playerService) {
+    public ImportController(PictureService pictureService, TeamService teamService, PlayerService playerService, ImportMetrics importMetrics) {
         this.pictureService = pictureService;
         this.teamService = teamService;
         this.playerService = playerService;
+        this.importMetrics = importMetrics;
     }
 
     @GetMapping("/json")
@@ -46,6 +49,11 @@ public class ImportController extends BaseController {
         return super.view("xml/import-xml", "areImported", areImported);
     }
 
+    @GetMapping("/stats")
+    public ModelAndView importStats() {
+        return super.view("import-stats", "stats", this.importMetrics.getStats());
+    }
+
     @GetMapping("/pictures")
     public ModelAndView importPictures() throws IOException {
         String picturesXmlFileContent = this.pictureService.readPicturesXmlFile();
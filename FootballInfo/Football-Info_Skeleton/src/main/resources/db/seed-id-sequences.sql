@@ -0,0 +1,12 @@
+-- Ids come from one <entity>_seq table per entity, which ddl-auto=update creates starting at 1. Tables filled while ids
+-- were still IDENTITY columns already hold those values, so every sequence is moved past its table's highest id before
+-- the first insert. Sequences that are already ahead are left alone, so the script can run on every start
+
+UPDATE picture_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM pictures)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM pictures);
+
+UPDATE team_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM teams)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM teams);
+
+UPDATE player_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM players)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM players);
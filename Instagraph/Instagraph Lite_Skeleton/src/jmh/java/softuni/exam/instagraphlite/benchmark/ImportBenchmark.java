@@ -0,0 +1,81 @@
+package softuni.exam.instagraphlite.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import softuni.exam.instagraphlite.InstagraphLiteApplication;
+import softuni.exam.instagraphlite.repository.ImportedFileRepository;
+import softuni.exam.instagraphlite.repository.PictureRepository;
+import softuni.exam.instagraphlite.repository.PostRepository;
+import softuni.exam.instagraphlite.repository.UserRepository;
+import softuni.exam.instagraphlite.service.PictureService;
+import softuni.exam.instagraphlite.service.PostService;
+import softuni.exam.instagraphlite.service.UserService;
+import softuni.exam.instagraphlite.util.ImportMetrics;
+
+import javax.xml.bind.JAXBException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PictureService pictureService;
+    private UserService userService;
+    private PostService postService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(InstagraphLiteApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("bench")
+                .run();
+
+        pictureService = context.getBean(PictureService.class);
+        userService = context.getBean(UserService.class);
+        postService = context.getBean(PostService.class);
+    }
+
+    // The file digests go with the tables, otherwise every run after the first would skip pictures and users as unchanged
+    @Setup(Level.Invocation)
+    public void clearTables() {
+        context.getBean(PostRepository.class).deleteAllInBatch();
+        context.getBean(UserRepository.class).deleteAllInBatch();
+        context.getBean(PictureRepository.class).deleteAllInBatch();
+        context.getBean(ImportedFileRepository.class).deleteAllInBatch();
+    }
+
+    // Rows per second per entity, from the last run
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.getBean(ImportMetrics.class).getStats()
+                .forEach(stats -> System.out.printf("%s: %d rows/s%n", stats.getEntity(), stats.getRowsPerSecond()));
+
+        context.close();
+    }
+
+    @Benchmark
+    public String importAll() throws JAXBException, IOException {
+        return pictureService.importPictures()
+                + userService.importUsers()
+                + postService.importPosts();
+    }
+}
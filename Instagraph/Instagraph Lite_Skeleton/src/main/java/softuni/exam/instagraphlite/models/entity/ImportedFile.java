@@ -0,0 +1,45 @@
+package softuni.exam.instagraphlite.models.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "imported_files")
+public class ImportedFile extends BaseEntity {
+
+    private String source;
+    private String digest;
+    private LocalDateTime importedAt;
+
+    public ImportedFile() {
+    }
+
+    @Column(name = "source", nullable = false, unique = true)
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @Column(name = "digest", nullable = false, length = 64)
+    public String getDigest() {
+        return digest;
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
+    @Column(name = "imported_at", nullable = false)
+    public LocalDateTime getImportedAt() {
+        return importedAt;
+    }
+
+    public void setImportedAt(LocalDateTime importedAt) {
+        this.importedAt = importedAt;
+    }
+}
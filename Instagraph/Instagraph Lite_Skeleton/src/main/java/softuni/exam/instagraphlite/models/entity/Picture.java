@@ -6,7 +6,7 @@ import javax.persistence.Table;
 
 @Entity
 @Table(name = "pictures")
-public class Picture extends BaseEntity{
+public class Picture extends HashedEntity {
 
     private String path;
     private Double size;
@@ -5,7 +5,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
-public class User extends BaseEntity{
+public class User extends HashedEntity {
 
     private String username;
     private String password;
@@ -42,7 +42,7 @@ public class User extends BaseEntity{
         this.profilePicture = profilePicture;
     }
 
-    @OneToMany(mappedBy = "user", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "user")
     public Set<Post> getPosts() {
         return posts;
     }
@@ -0,0 +1,13 @@
+package softuni.exam.instagraphlite.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import softuni.exam.instagraphlite.models.entity.ImportedFile;
+
+import java.util.Optional;
+
+@Repository
+public interface ImportedFileRepository extends JpaRepository<ImportedFile, Long> {
+
+    Optional<ImportedFile> findBySource(String source);
+}
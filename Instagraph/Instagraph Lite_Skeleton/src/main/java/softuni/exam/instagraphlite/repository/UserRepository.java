@@ -1,19 +1,26 @@
 package softuni.exam.instagraphlite.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import softuni.exam.instagraphlite.models.entity.User;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     Optional<User> findByUsername(String username);
 
-    @Query("SELECT u FROM User u ORDER BY size(u.posts) DESC, u.username")
+    @EntityGraph(attributePaths = {"posts", "posts.picture"})
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT u FROM User u ORDER BY size(u.posts) DESC, u.username")
     List<User> findAllByPostsCountDescThenById();
 }
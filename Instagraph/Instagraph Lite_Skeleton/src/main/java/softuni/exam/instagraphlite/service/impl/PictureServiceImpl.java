@@ -7,12 +7,20 @@ import softuni.exam.instagraphlite.models.dto.json.PictureSeedDto;
 import softuni.exam.instagraphlite.models.entity.Picture;
 import softuni.exam.instagraphlite.repository.PictureRepository;
 import softuni.exam.instagraphlite.service.PictureService;
+import softuni.exam.instagraphlite.util.ChunkedSaver;
+import softuni.exam.instagraphlite.util.FileDigests;
+import softuni.exam.instagraphlite.util.ImportMetrics;
+import softuni.exam.instagraphlite.util.ImportPipeline;
+import softuni.exam.instagraphlite.util.ImportRecord;
+import softuni.exam.instagraphlite.util.ImportStage;
+import softuni.exam.instagraphlite.util.Upserter;
 import softuni.exam.instagraphlite.util.ValidationUtil;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 
 @Service
 public class PictureServiceImpl implements PictureService {
@@ -23,12 +31,22 @@ public class PictureServiceImpl implements PictureService {
     private final ModelMapper modelMapper;
     private final Gson gson;
     private final ValidationUtil validationUtil;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final Upserter upserter;
+    private final FileDigests fileDigests;
 
-    public PictureServiceImpl(PictureRepository pictureRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil) {
+    public PictureServiceImpl(PictureRepository pictureRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, Upserter upserter, FileDigests fileDigests) {
         this.pictureRepository = pictureRepository;
         this.modelMapper = modelMapper;
         this.gson = gson;
         this.validationUtil = validationUtil;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.upserter = upserter;
+        this.fileDigests = fileDigests;
     }
 
     @Override
@@ -43,23 +61,30 @@ public class PictureServiceImpl implements PictureService {
 
     @Override
     public String importPictures() throws IOException {
-        StringBuilder result = new StringBuilder();
+        String digest = fileDigests.digest(PICTURES_FILE_PATH);
 
-        Arrays.stream(gson.fromJson(readFromFileContent(), PictureSeedDto[].class))
-                .filter(pictureSeedDto -> {
-                    boolean isValid = validationUtil.isValid(pictureSeedDto)
-                            && !entityExists(pictureSeedDto.getPath());
+        if (fileDigests.isImported(PICTURES_FILE_PATH, digest)) {
+            return "Skipped pictures - unchanged since the last import";
+        }
 
-                    result.append(isValid ? String.format("Successfully imported Picture, with size %.2f",
-                            pictureSeedDto.getSize())
-                            : "Invalid picture")
-                            .append(System.lineSeparator());
+        String picturesFileContent = readFromFileContent();
 
-                    return isValid;
-                }).map(pictureSeedDto -> modelMapper.map(pictureSeedDto, Picture.class))
-                .forEach(pictureRepository::save);
+        long parseStart = System.nanoTime();
+        PictureSeedDto[] pictureSeedDtos = gson.fromJson(picturesFileContent, PictureSeedDto[].class);
+        importMetrics.record(Picture.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-        return result.toString().trim();
+        String result = importPipeline.run(Picture.class, Arrays.stream(pictureSeedDtos), pictureSeedDto -> {
+            if (!importMetrics.time(Picture.class, ImportStage.VALIDATE, () -> validationUtil.isValid(pictureSeedDto))) {
+                return ImportRecord.<Picture>rejected("Invalid picture");
+            }
+
+            return ImportRecord.imported(importMetrics.time(Picture.class, ImportStage.MAP, () -> modelMapper.map(pictureSeedDto, Picture.class)),
+                    String.format("Successfully imported Picture, with size %.2f", pictureSeedDto.getSize()));
+        }, pictures -> chunkedSaver.saveAll(pictures, chunk -> upserter.changed(Picture.class, "path", chunk, Picture::getPath,
+                PictureServiceImpl::content), pictureRepository));
+        fileDigests.markImported(PICTURES_FILE_PATH, digest);
+
+        return result.trim();
     }
 
     @Override
@@ -84,4 +109,7 @@ public class PictureServiceImpl implements PictureService {
             return pictureRepository.findByPath(picturePath).orElse(null);
     }
 
+    private static List<?> content(Picture picture) {
+        return Arrays.asList(picture.getPath(), picture.getSize());
+    }
 }
@@ -8,6 +8,11 @@ import softuni.exam.instagraphlite.repository.PostRepository;
 import softuni.exam.instagraphlite.service.PictureService;
 import softuni.exam.instagraphlite.service.PostService;
 import softuni.exam.instagraphlite.service.UserService;
+import softuni.exam.instagraphlite.util.ChunkedSaver;
+import softuni.exam.instagraphlite.util.ImportMetrics;
+import softuni.exam.instagraphlite.util.ImportPipeline;
+import softuni.exam.instagraphlite.util.ImportRecord;
+import softuni.exam.instagraphlite.util.ImportStage;
 import softuni.exam.instagraphlite.util.ValidationUtil;
 import softuni.exam.instagraphlite.util.XmlParser;
 
@@ -22,14 +27,20 @@ public class PostServiceImpl implements PostService {
     private static final String POSTS_FILE_PATH = "src/main/resources/files/posts.xml";
 
     private final PostRepository postRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final ModelMapper modelMapper;
     private final XmlParser xmlParser;
     private final ValidationUtil validationUtil;
     private final UserService userService;
     private final PictureService pictureService;
 
-    public PostServiceImpl(PostRepository postRepository, ModelMapper modelMapper, XmlParser xmlParser, ValidationUtil validationUtil, UserService userService, PictureService pictureService) {
+    public PostServiceImpl(PostRepository postRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ModelMapper modelMapper, XmlParser xmlParser, ValidationUtil validationUtil, UserService userService, PictureService pictureService) {
         this.postRepository = postRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.modelMapper = modelMapper;
         this.xmlParser = xmlParser;
         this.validationUtil = validationUtil;
@@ -49,29 +60,28 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public String importPosts() throws IOException, JAXBException {
-        StringBuilder result = new StringBuilder();
+        long parseStart = System.nanoTime();
+        PostRootSeedDto postRootSeedDto = xmlParser.fromFile(POSTS_FILE_PATH, PostRootSeedDto.class);
+        importMetrics.record(Post.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-        xmlParser.fromFile(POSTS_FILE_PATH, PostRootSeedDto.class)
-                .getPosts()
-                .stream()
-                .filter(postSeedDto -> {
-                    boolean isValid = validationUtil.isValid(postSeedDto)
-                            && userService.userExists(postSeedDto.getUser().getUsername())
-                            && pictureService.entityExists(postSeedDto.getPicture().getPath());
+        return importPipeline.run(Post.class, postRootSeedDto.getPosts().stream(), postSeedDto -> {
+            if (!importMetrics.time(Post.class, ImportStage.VALIDATE, () -> validationUtil.isValid(postSeedDto)
+                    && userService.userExists(postSeedDto.getUser().getUsername())
+                    && pictureService.entityExists(postSeedDto.getPicture().getPath()))) {
+                return ImportRecord.<Post>rejected("Invalid post");
+            }
 
-                    result.append(isValid ? String.format("Successfully imported Post, made by %s",
-                            postSeedDto.getUser().getUsername())
-                            : "Invalid post").append(System.lineSeparator());
+            Post post = importMetrics.time(Post.class, ImportStage.MAP, () -> modelMapper.map(postSeedDto, Post.class));
 
-                    return isValid;
-                }).map(postSeedDto -> {
-                    Post post = modelMapper.map(postSeedDto, Post.class);
-                    post.setUser(userService.findByUsername(postSeedDto.getUser().getUsername()));
-                    post.setPicture(pictureService.findByPath(postSeedDto.getPicture().getPath()));
+            importMetrics.time(Post.class, ImportStage.RESOLVE, () -> {
+                post.setUser(userService.findByUsername(postSeedDto.getUser().getUsername()));
+                post.setPicture(pictureService.findByPath(postSeedDto.getPicture().getPath()));
 
-                    return post;
-                }).forEach(postRepository::save);
+                return post;
+            });
 
-        return result.toString().trim();
+            return ImportRecord.imported(post, String.format("Successfully imported Post, made by %s",
+                    postSeedDto.getUser().getUsername()));
+        }, posts -> chunkedSaver.saveAll(posts, postRepository)).trim();
     }
 }
@@ -8,6 +8,13 @@ import softuni.exam.instagraphlite.models.entity.User;
 import softuni.exam.instagraphlite.repository.UserRepository;
 import softuni.exam.instagraphlite.service.PictureService;
 import softuni.exam.instagraphlite.service.UserService;
+import softuni.exam.instagraphlite.util.ChunkedSaver;
+import softuni.exam.instagraphlite.util.FileDigests;
+import softuni.exam.instagraphlite.util.ImportMetrics;
+import softuni.exam.instagraphlite.util.ImportPipeline;
+import softuni.exam.instagraphlite.util.ImportRecord;
+import softuni.exam.instagraphlite.util.ImportStage;
+import softuni.exam.instagraphlite.util.Upserter;
 import softuni.exam.instagraphlite.util.ValidationUtil;
 
 import java.io.IOException;
@@ -25,14 +32,24 @@ public class UserServiceImpl implements UserService {
     private final ModelMapper modelMapper;
     private final Gson gson;
     private final ValidationUtil validationUtil;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final PictureService pictureService;
+    private final Upserter upserter;
+    private final FileDigests fileDigests;
 
-    public UserServiceImpl(UserRepository userRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, PictureService pictureService) {
+    public UserServiceImpl(UserRepository userRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, PictureService pictureService, Upserter upserter, FileDigests fileDigests) {
         this.userRepository = userRepository;
         this.modelMapper = modelMapper;
         this.gson = gson;
         this.validationUtil = validationUtil;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.pictureService = pictureService;
+        this.upserter = upserter;
+        this.fileDigests = fileDigests;
     }
 
     @Override
@@ -47,27 +64,33 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public String importUsers() throws IOException {
-        StringBuilder result = new StringBuilder();
+        String digest = fileDigests.digest(USERS_PATH_FILE);
 
-        Arrays.stream(gson.fromJson(readFromFileContent(), UserSeedDto[].class))
-                .filter(userSeedDto -> {
-                    boolean isValid = validationUtil.isValid(userSeedDto)
-                            && !userExists(userSeedDto.getUsername())
-                            && pictureService.entityExists(userSeedDto.getProfilePicture());
+        if (fileDigests.isImported(USERS_PATH_FILE, digest)) {
+            return "Skipped users - unchanged since the last import";
+        }
 
-                    result.append(isValid ? String.format("Successfully imported User: %s",
-                            userSeedDto.getUsername())
-                            : "Invalid user").append(System.lineSeparator());
+        String usersFileContent = readFromFileContent();
 
-                    return isValid;
-                }).map(userSeedDto -> {
-                    User user = modelMapper.map(userSeedDto, User.class);
-                    user.setProfilePicture(pictureService.findByPath(userSeedDto.getProfilePicture()));
+        long parseStart = System.nanoTime();
+        UserSeedDto[] userSeedDtos = gson.fromJson(usersFileContent, UserSeedDto[].class);
+        importMetrics.record(User.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-                    return user;
-                }).forEach(userRepository::save);
+        String result = importPipeline.run(User.class, Arrays.stream(userSeedDtos), userSeedDto -> {
+            if (!importMetrics.time(User.class, ImportStage.VALIDATE, () -> validationUtil.isValid(userSeedDto)
+                    && pictureService.entityExists(userSeedDto.getProfilePicture()))) {
+                return ImportRecord.<User>rejected("Invalid user");
+            }
 
-        return result.toString().trim();
+            User user = importMetrics.time(User.class, ImportStage.MAP, () -> modelMapper.map(userSeedDto, User.class));
+            user.setProfilePicture(importMetrics.time(User.class, ImportStage.RESOLVE, () -> pictureService.findByPath(userSeedDto.getProfilePicture())));
+
+            return ImportRecord.imported(user, String.format("Successfully imported User: %s", userSeedDto.getUsername()));
+        }, users -> chunkedSaver.saveAll(users, chunk -> upserter.changed(User.class, "username", chunk, User::getUsername,
+                UserServiceImpl::content), userRepository));
+        fileDigests.markImported(USERS_PATH_FILE, digest);
+
+        return result.trim();
     }
 
     @Override
@@ -99,4 +122,8 @@ public class UserServiceImpl implements UserService {
 
         return result.toString().trim();
     }
+
+    private static List<?> content(User user) {
+        return Arrays.asList(user.getUsername(), user.getPassword(), user.getProfilePicture().getPath());
+    }
 }
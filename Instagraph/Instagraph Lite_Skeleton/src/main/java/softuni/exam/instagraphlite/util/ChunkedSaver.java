@@ -0,0 +1,14 @@
+package softuni.exam.instagraphlite.util;
+
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public interface ChunkedSaver {
+
+    <T> void saveAll(Stream<T> entities, CrudRepository<T, ?> repository);
+
+    <S, T> void saveAll(Stream<S> sources, Function<List<S>, List<T>> chunkMapper, CrudRepository<T, ?> repository);
+}
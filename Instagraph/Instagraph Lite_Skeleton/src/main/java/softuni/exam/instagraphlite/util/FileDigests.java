@@ -0,0 +1,12 @@
+package softuni.exam.instagraphlite.util;
+
+import java.io.IOException;
+
+public interface FileDigests {
+
+    String digest(String filePath) throws IOException;
+
+    boolean isImported(String filePath, String digest);
+
+    void markImported(String filePath, String digest);
+}
@@ -0,0 +1,17 @@
+package softuni.exam.instagraphlite.util;
+
+import softuni.exam.instagraphlite.models.dto.view.ImportStatsViewDto;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface ImportMetrics {
+
+    <R> R time(Class<?> entityType, ImportStage stage, Supplier<R> action);
+
+    void record(Class<?> entityType, ImportStage stage, long elapsedNanos);
+
+    void recordRun(Class<?> entityType, long imported, long rejected, long elapsedNanos);
+
+    List<ImportStatsViewDto> getStats();
+}
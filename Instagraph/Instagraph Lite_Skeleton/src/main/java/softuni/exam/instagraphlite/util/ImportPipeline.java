@@ -0,0 +1,10 @@
+package softuni.exam.instagraphlite.util;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public interface ImportPipeline {
+
+    <S, T> String run(Class<T> entityType, Stream<S> sources, Function<S, ImportRecord<T>> worker, Consumer<Stream<T>> writer);
+}
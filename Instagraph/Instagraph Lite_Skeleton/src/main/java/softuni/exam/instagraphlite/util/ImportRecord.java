@@ -0,0 +1,32 @@
+package softuni.exam.instagraphlite.util;
+
+public class ImportRecord<T> {
+
+    private final T entity;
+    private final String message;
+
+    private ImportRecord(T entity, String message) {
+        this.entity = entity;
+        this.message = message;
+    }
+
+    public static <T> ImportRecord<T> imported(T entity, String message) {
+        return new ImportRecord<>(entity, message);
+    }
+
+    public static <T> ImportRecord<T> rejected(String message) {
+        return new ImportRecord<>(null, message);
+    }
+
+    public T getEntity() {
+        return entity;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isImported() {
+        return entity != null;
+    }
+}
@@ -0,0 +1,5 @@
+package softuni.exam.instagraphlite.util;
+
+public enum ImportStage {
+    PARSE, VALIDATE, MAP, RESOLVE, PERSIST
+}
@@ -0,0 +1,69 @@
+package softuni.exam.instagraphlite.util.impl;
+
+import org.springframework.stereotype.Component;
+import softuni.exam.instagraphlite.models.entity.ImportedFile;
+import softuni.exam.instagraphlite.repository.ImportedFileRepository;
+import softuni.exam.instagraphlite.util.FileDigests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+
+@Component
+public class FileDigestsImpl implements FileDigests {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ImportedFileRepository importedFileRepository;
+
+    public FileDigestsImpl(ImportedFileRepository importedFileRepository) {
+        this.importedFileRepository = importedFileRepository;
+    }
+
+    @Override
+    public String digest(String filePath) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (InputStream inputStream = Files.newInputStream(Path.of(filePath))) {
+            int read;
+
+            while ((read = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    @Override
+    public boolean isImported(String filePath, String digest) {
+        return importedFileRepository.findBySource(filePath)
+                .filter(importedFile -> importedFile.getDigest().equals(digest))
+                .isPresent();
+    }
+
+    @Override
+    public void markImported(String filePath, String digest) {
+        ImportedFile importedFile = importedFileRepository.findBySource(filePath).orElseGet(ImportedFile::new);
+
+        importedFile.setSource(filePath);
+        importedFile.setDigest(digest);
+        importedFile.setImportedAt(LocalDateTime.now());
+
+        importedFileRepository.save(importedFile);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
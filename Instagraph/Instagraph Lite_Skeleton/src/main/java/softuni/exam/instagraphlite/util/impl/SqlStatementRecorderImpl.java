@@ -0,0 +1,86 @@
+package softuni.exam.instagraphlite.util.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import softuni.exam.instagraphlite.util.SqlStatementRecorder;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@Component
+public class SqlStatementRecorderImpl implements SqlStatementRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatementRecorderImpl.class);
+    private static final String STATEMENT_TIMER = "sql.statement";
+    private static final int MAX_SHAPES = 1024;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Timer otherShapes;
+
+    public SqlStatementRecorderImpl(MeterRegistry meterRegistry,
+                                    @Value("${sql.slow-query.threshold-ms}") long thresholdMillis,
+                                    @Value("${sql.slow-query.sample-rate}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+        this.otherShapes = register("other");
+    }
+
+    @Override
+    public void record(String sql, long elapsedNanos, Object[] parameters, int batchSize) {
+        timerFor(sql).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= thresholdNanos) {
+            LOGGER.warn("Slow SQL ({} ms, batch of {}): {} {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), batchSize, singleLine(sql), Arrays.toString(parameters));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            LOGGER.info("Sampled SQL ({} ms, batch of {}): {} {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), batchSize, singleLine(sql), Arrays.toString(parameters));
+        }
+    }
+
+    // Keyed and capped by shape, so statements that differ only in the length of an IN list share one timer and
+    // can't use up the cap on their own
+    private Timer timerFor(String sql) {
+        String shape = shapeOf(sql);
+        Timer timer = timers.get(shape);
+
+        if (timer != null) {
+            return timer;
+        }
+
+        if (timers.size() >= MAX_SHAPES) {
+            return otherShapes;
+        }
+
+        return timers.computeIfAbsent(shape, this::register);
+    }
+
+    private Timer register(String shape) {
+        return Timer.builder(STATEMENT_TIMER)
+                .tag("shape", shape)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String shapeOf(String sql) {
+        return PARAMETER_LIST.matcher(singleLine(sql)).replaceAll("(?)");
+    }
+
+    private static String singleLine(String sql) {
+        return WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    }
+}
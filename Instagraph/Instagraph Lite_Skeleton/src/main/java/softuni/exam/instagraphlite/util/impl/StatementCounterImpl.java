@@ -0,0 +1,108 @@
+package softuni.exam.instagraphlite.util.impl;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import softuni.exam.instagraphlite.util.StatementCounter;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class StatementCounterImpl implements StatementCounter, StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Counts> COUNT = ThreadLocal.withInitial(Counts::new);
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().increment(sql);
+
+        return sql;
+    }
+
+    @Override
+    public long getCount() {
+        return COUNT.get().total.sum();
+    }
+
+    // A fresh count rather than a zeroed one, so tasks still carrying the thread's previous count can't add to this one
+    @Override
+    public void reset() {
+        COUNT.set(new Counts());
+    }
+
+    @Override
+    public long countStatements(Runnable action) {
+        long before = getCount();
+        action.run();
+
+        return getCount() - before;
+    }
+
+    // Counts only the inserts, updates or deletes of one table, so bookkeeping writes such as checkpoints don't count
+    @Override
+    public long countStatements(String kind, String table, Runnable action) {
+        String key = kind.toLowerCase(Locale.ROOT) + " " + table.toLowerCase(Locale.ROOT);
+        long before = COUNT.get().of(key);
+        action.run();
+
+        return COUNT.get().of(key) - before;
+    }
+
+    // Statements the task issues on another thread, such as an import pipeline worker, count toward the calling thread
+    @Override
+    public <V> Callable<V> carry(Callable<V> task) {
+        Counts count = COUNT.get();
+
+        return () -> {
+            Counts previous = COUNT.get();
+            COUNT.set(count);
+
+            try {
+                return task.call();
+            } finally {
+                COUNT.set(previous);
+            }
+        };
+    }
+
+    private static final class Counts {
+
+        private static final Pattern WRITE = Pattern.compile("^\\s*(insert\\s+into|update|delete\\s+from)\\s+([\\w.]+)",
+                Pattern.CASE_INSENSITIVE);
+
+        private final LongAdder total = new LongAdder();
+        private final ConcurrentMap<String, LongAdder> byTable = new ConcurrentHashMap<>();
+
+        private void increment(String sql) {
+            total.increment();
+
+            Matcher write = WRITE.matcher(sql);
+
+            if (write.find()) {
+                String kind = write.group(1).split("\\s+")[0].toLowerCase(Locale.ROOT);
+                String table = write.group(2).toLowerCase(Locale.ROOT);
+
+                byTable.computeIfAbsent(kind + " " + table, key -> new LongAdder()).increment();
+            }
+        }
+
+        private long of(String key) {
+            LongAdder count = byTable.get(key);
+
+            return count == null ? 0 : count.sum();
+        }
+    }
+}
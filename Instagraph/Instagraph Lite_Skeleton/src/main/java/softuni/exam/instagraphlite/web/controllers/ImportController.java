@@ -10,6 +10,7 @@ import org.springframework.web.servlet.ModelAndView;
 import softuni.exam.instagraphlite.service.PictureService;
 import softuni.exam.instagraphlite.service.PostService;
 import softuni.exam.instagraphlite.service.UserService;
+import softuni.exam.instagraphlite.util.ImportMetrics;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
@@ -20,13 +21,15 @@ public class ImportController extends BaseController {
     private final PictureService pictureService;
     private final UserService userService;
     private final PostService postService;
+    private final ImportMetrics importMetrics;
 
 
     @Autowired
-    public ImportController(PictureService pictureService, UserService userService, PostService postService) {
+    public ImportController(PictureService pictureService, UserService userService, PostService postService, ImportMetrics importMetrics) {
         this.pictureService = pictureService;
         this.userService = userService;
         this.postService = postService;
+        this.importMetrics = importMetrics;
     }
 
     @GetMapping("/json")
@@ -68,6 +71,10 @@ public class ImportController extends BaseController {
 
         return super.view("xml/import-xml", "areImported", areImported);
     }
+    @GetMapping("/stats")
+    public ModelAndView importStats() {
+        return super.view("import-stats", "stats", this.importMetrics.getStats());
+    }
     @GetMapping("/posts")
     public ModelAndView importPost() throws IOException {
         String postsFromXml = this.postService.readFromFileContent();
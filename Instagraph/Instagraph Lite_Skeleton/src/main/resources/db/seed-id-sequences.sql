@@ -0,0 +1,15 @@
+-- Ids come from one <entity>_seq table per entity, which ddl-auto=update creates starting at 1. Tables filled while ids
+-- were still IDENTITY columns already hold those values, so every sequence is moved past its table's highest id before
+-- the first insert. Sequences that are already ahead are left alone, so the script can run on every start
+
+UPDATE picture_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM pictures)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM pictures);
+
+UPDATE user_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM users)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM users);
+
+UPDATE post_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM posts)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM posts);
+
+UPDATE imported_file_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM imported_files)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM imported_files);
@@ -0,0 +1,87 @@
+package softuni.exam.instagraphlite.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import softuni.exam.instagraphlite.models.entity.Picture;
+import softuni.exam.instagraphlite.models.entity.Post;
+import softuni.exam.instagraphlite.models.entity.User;
+import softuni.exam.instagraphlite.repository.PictureRepository;
+import softuni.exam.instagraphlite.repository.PostRepository;
+import softuni.exam.instagraphlite.repository.UserRepository;
+import softuni.exam.instagraphlite.util.StatementCounter;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("bench")
+@Transactional
+class UserServiceStatementCountTests {
+
+    private static final int FEW_USERS = 5;
+    private static final int MANY_USERS = 200;
+    private static final int POSTS_PER_USER = 3;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PictureRepository pictureRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private int seeded;
+
+    @Test
+    void exportUsersWithTheirPostsIssuesAtMostTwoStatementsForAnyNumberOfUsers() {
+        seedUsers(FEW_USERS);
+        long few = statementCounter.countStatements(userService::exportUsersWithTheirPosts);
+
+        seedUsers(MANY_USERS);
+        long many = statementCounter.countStatements(userService::exportUsersWithTheirPosts);
+
+        assertThat(few).isLessThanOrEqualTo(2);
+        assertThat(many).isEqualTo(few);
+    }
+
+    // Cleared afterwards, so the export loads users, posts and pictures from the database instead of the session
+    private void seedUsers(int count) {
+        for (int i = 0; i < count; i++, seeded++) {
+            Picture picture = new Picture();
+            picture.setPath("statement-count/" + seeded + ".jpg");
+            picture.setSize(500.0 + seeded);
+            pictureRepository.save(picture);
+
+            User user = new User();
+            user.setUsername("user" + seeded);
+            user.setPassword("password");
+            user.setProfilePicture(picture);
+            userRepository.save(user);
+
+            for (int j = 0; j < POSTS_PER_USER; j++) {
+                Post post = new Post();
+                post.setCaption("Caption " + seeded + "-" + j);
+                post.setUser(user);
+                post.setPicture(picture);
+                postRepository.save(post);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
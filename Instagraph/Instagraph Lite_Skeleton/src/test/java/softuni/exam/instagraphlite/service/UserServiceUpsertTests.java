@@ -0,0 +1,123 @@
+package softuni.exam.instagraphlite.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import softuni.exam.instagraphlite.models.entity.User;
+import softuni.exam.instagraphlite.repository.ImportedFileRepository;
+import softuni.exam.instagraphlite.repository.PictureRepository;
+import softuni.exam.instagraphlite.repository.PostRepository;
+import softuni.exam.instagraphlite.repository.UserRepository;
+import softuni.exam.instagraphlite.util.StatementCounter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("bench")
+class UserServiceUpsertTests {
+
+    private static final Path USERS_FILE = Path.of("src/main/resources/files/users.json");
+
+    @Autowired
+    private PictureService pictureService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PictureRepository pictureRepository;
+
+    @Autowired
+    private ImportedFileRepository importedFileRepository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    private String usersFileContent;
+
+    // The services read a fixed path, so the users file is changed in place and put back afterwards
+    @BeforeEach
+    void importPictures() throws IOException {
+        usersFileContent = Files.readString(USERS_FILE);
+        clearTables();
+        pictureService.importPictures();
+    }
+
+    @AfterEach
+    void restoreUsersFile() throws IOException {
+        Files.writeString(USERS_FILE, usersFileContent);
+        clearTables();
+    }
+
+    @Test
+    void reimportingAChangedFileUpdatesOnlyTheChangedUser() throws IOException {
+        long[] firstImport = countWrites();
+        long users = userRepository.count();
+
+        assertThat(firstImport[0]).isPositive();
+        assertThat(firstImport[1]).isZero();
+
+        User changed = userRepository.findAll().get(0);
+        String oldPassword = "\"password\": \"" + changed.getPassword() + "\"";
+        String newPassword = "\"password\": \"" + changed.getPassword() + "!\"";
+
+        assertThat(usersFileContent.indexOf(oldPassword)).isNotNegative().isEqualTo(usersFileContent.lastIndexOf(oldPassword));
+        Files.writeString(USERS_FILE, usersFileContent.replace(oldPassword, newPassword));
+
+        assertThat(countWrites()).containsExactly(0L, 1L);
+        assertThat(userRepository.count()).isEqualTo(users);
+        assertThat(userRepository.findByUsername(changed.getUsername()).orElseThrow().getPassword())
+                .isEqualTo(changed.getPassword() + "!");
+    }
+
+    // With the file digest gone the file is imported again, and every user matches its stored content hash
+    @Test
+    void reimportingAnUnchangedFileWritesNothing() {
+        countWrites();
+        long users = userRepository.count();
+
+        importedFileRepository.deleteAll();
+
+        assertThat(countWrites()).containsExactly(0L, 0L);
+        assertThat(userRepository.count()).isEqualTo(users);
+    }
+
+    // Inserts and updates of the users table during one users import
+    private long[] countWrites() {
+        long[] writes = new long[2];
+
+        writes[1] = statementCounter.countStatements("update", "users",
+                () -> writes[0] = statementCounter.countStatements("insert", "users", this::importUsers));
+
+        return writes;
+    }
+
+    private void importUsers() {
+        try {
+            userService.importUsers();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void clearTables() {
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        pictureRepository.deleteAllInBatch();
+        importedFileRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.football.benchmark;
+
+import com.example.football.FootballApplication;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportOrchestrator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ImportOrchestrator importOrchestrator;
+
+    // Players name their stat by id, so every run gets a fresh context instead of cleared tables: the bench profile's
+    // ddl-auto=create recreates the id sequences, which clearing would leave past the ids the file expects
+    @Setup(Level.Invocation)
+    public void startContext() {
+        context = new SpringApplicationBuilder(FootballApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("bench")
+                .run();
+
+        importOrchestrator = context.getBean(ImportOrchestrator.class);
+    }
+
+    // Rows per second per entity, from this run
+    @TearDown(Level.Invocation)
+    public void closeContext() {
+        context.getBean(ImportMetrics.class).getStats()
+                .forEach(stats -> System.out.printf("%s: %d rows/s%n", stats.getEntity(), stats.getRowsPerSecond()));
+
+        context.close();
+    }
+
+    @Benchmark
+    public String importAll() throws Exception {
+        return importOrchestrator.importAll();
+    }
+}
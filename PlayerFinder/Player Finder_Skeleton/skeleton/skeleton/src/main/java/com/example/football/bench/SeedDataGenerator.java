@@ -0,0 +1,196 @@
+package com.example.football.bench;
+
+import com.example.football.models.entity.enums.Position;
+import com.google.gson.stream.JsonWriter;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+public class SeedDataGenerator {
+
+    private static final String DEFAULT_OUTPUT_DIR = "target/seed-data";
+    private static final long TOWNS_PER_SCALE = 100;
+    private static final long TEAMS_PER_SCALE = 500;
+    private static final long STATS_PER_SCALE = 10_000;
+    private static final long PLAYERS_PER_SCALE = 10_000;
+    private static final long SEED = 42;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1975, 1, 1);
+    private static final Position[] POSITIONS = Position.values();
+
+    private final long towns;
+    private final long teams;
+    private final long stats;
+    private final long players;
+    private final Path outputDir;
+    private final SplittableRandom random = new SplittableRandom(SEED);
+
+    public SeedDataGenerator(long scale, Path outputDir) {
+        this.towns = TOWNS_PER_SCALE * scale;
+        this.teams = TEAMS_PER_SCALE * scale;
+        this.stats = STATS_PER_SCALE * scale;
+        this.players = PLAYERS_PER_SCALE * scale;
+        this.outputDir = outputDir;
+    }
+
+    public static void main(String[] args) throws IOException, XMLStreamException {
+        long scale = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        Path outputDir = Path.of(args.length > 1 ? args[1] : DEFAULT_OUTPUT_DIR);
+
+        new SeedDataGenerator(scale, outputDir).generate();
+    }
+
+    public void generate() throws IOException, XMLStreamException {
+        Files.createDirectories(outputDir.resolve("json"));
+        Files.createDirectories(outputDir.resolve("xml"));
+
+        writeTowns(outputDir.resolve("json/towns.json"));
+        writeTeams(outputDir.resolve("json/teams.json"));
+        writeStats(outputDir.resolve("xml/stats.xml"));
+        writePlayers(outputDir.resolve("xml/players.xml"));
+    }
+
+    private void writeTowns(Path path) throws IOException {
+        try (JsonWriter json = jsonWriter(path)) {
+            json.beginArray();
+
+            for (long i = 1; i <= towns; i++) {
+                json.beginObject()
+                        .name("name").value(townName(i))
+                        .name("population").value(1_000 + random.nextInt(20_000_000))
+                        .name("travelGuide").value("Travel guide for " + townName(i) + ".")
+                        .endObject();
+            }
+
+            json.endArray();
+        }
+    }
+
+    private void writeTeams(Path path) throws IOException {
+        try (JsonWriter json = jsonWriter(path)) {
+            json.beginArray();
+
+            for (long i = 1; i <= teams; i++) {
+                json.beginObject()
+                        .name("name").value(teamName(i))
+                        .name("stadiumName").value("Stadium" + i)
+                        .name("fanBase").value(1_000 + random.nextInt(1_000_000))
+                        .name("history").value("History of " + teamName(i) + ".")
+                        .name("townName").value(townName(1 + random.nextLong(towns)))
+                        .endObject();
+            }
+
+            json.endArray();
+        }
+    }
+
+    private void writeStats(Path path) throws IOException, XMLStreamException {
+        try (Writer writer = bufferedWriter(path)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("stats");
+
+            for (long i = 1; i <= stats; i++) {
+                startElement(xml, 1, "stat");
+                element(xml, 2, "passing", BigDecimal.valueOf(i, 2).toPlainString());
+                element(xml, 2, "shooting", randomRating());
+                element(xml, 2, "endurance", randomRating());
+                endElement(xml, 1);
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        }
+    }
+
+    private void writePlayers(Path path) throws IOException, XMLStreamException {
+        try (Writer writer = bufferedWriter(path)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("players");
+
+            for (long i = 1; i <= players; i++) {
+                startElement(xml, 1, "player");
+                element(xml, 2, "first-name", "First" + i);
+                element(xml, 2, "last-name", "Last" + i);
+                element(xml, 2, "email", "player" + i + "@example.com");
+                element(xml, 2, "birth-date", FIRST_BIRTH_DATE.plusDays(random.nextInt(9_000)).format(DATE_FORMAT));
+                element(xml, 2, "position", POSITIONS[random.nextInt(POSITIONS.length)].name());
+                nestedElement(xml, "town", "name", townName(1 + random.nextLong(towns)));
+                nestedElement(xml, "team", "name", teamName(1 + random.nextLong(teams)));
+                nestedElement(xml, "stat", "id", String.valueOf(1 + random.nextLong(stats)));
+                endElement(xml, 1);
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        }
+    }
+
+    private String randomRating() {
+        return BigDecimal.valueOf(1 + random.nextInt(9_999), 2).toPlainString();
+    }
+
+    private static String townName(long i) {
+        return "Town" + i;
+    }
+
+    private static String teamName(long i) {
+        return "Team" + i;
+    }
+
+    private static JsonWriter jsonWriter(Path path) throws IOException {
+        JsonWriter json = new JsonWriter(bufferedWriter(path));
+        json.setIndent("  ");
+
+        return json;
+    }
+
+    private static Writer bufferedWriter(Path path) throws IOException {
+        return new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static void startElement(XMLStreamWriter xml, int depth, String name) throws XMLStreamException {
+        indent(xml, depth);
+        xml.writeStartElement(name);
+    }
+
+    private static void endElement(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        indent(xml, depth);
+        xml.writeEndElement();
+    }
+
+    private static void element(XMLStreamWriter xml, int depth, String name, String value) throws XMLStreamException {
+        startElement(xml, depth, name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    private static void nestedElement(XMLStreamWriter xml, String name, String childName, String value) throws XMLStreamException {
+        startElement(xml, 2, name);
+        element(xml, 3, childName, value);
+        endElement(xml, 2);
+    }
+
+    private static void indent(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        xml.writeCharacters("\n" + "    ".repeat(depth));
+    }
+}
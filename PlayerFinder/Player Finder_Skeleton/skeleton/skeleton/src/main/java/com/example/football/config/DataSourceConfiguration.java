@@ -0,0 +1,28 @@
+package com.example.football.config;
+
+import com.example.football.util.SqlStatementRecorder;
+import com.example.football.util.impl.StatementTimingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DataSourceConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementTimingDataSourcePostProcessor(ObjectProvider<SqlStatementRecorder> sqlStatementRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof StatementTimingDataSource)) {
+                    return new StatementTimingDataSource((DataSource) bean, sqlStatementRecorder::getObject);
+                }
+
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.football.config;
+
+import com.example.football.service.PlayerService;
+import com.example.football.service.StatService;
+import com.example.football.service.TeamService;
+import com.example.football.service.TownService;
+import com.example.football.util.ImportTask;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class ImportTaskConfiguration {
+
+    @Bean
+    public ImportTask townsImport(TownService townService) {
+        return new ImportTask("towns", List.of(), townService::areImported, townService::importTowns);
+    }
+
+    @Bean
+    public ImportTask statsImport(StatService statService) {
+        return new ImportTask("stats", List.of(), statService::areImported, statService::importStats);
+    }
+
+    @Bean
+    public ImportTask teamsImport(TeamService teamService) {
+        return new ImportTask("teams", List.of("towns"), teamService::areImported, teamService::importTeams);
+    }
+
+    @Bean
+    public ImportTask playersImport(PlayerService playerService) {
+        return new ImportTask("players", List.of("towns", "teams", "stats"), playerService::areImported, playerService::importPlayers);
+    }
+}
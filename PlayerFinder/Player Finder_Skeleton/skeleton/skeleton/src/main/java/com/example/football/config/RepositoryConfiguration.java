@@ -0,0 +1,10 @@
+package com.example.football.config;
+
+import com.example.football.repository.impl.NaturalIdRepositoryImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaRepositories(basePackages = "com.example.football.repository", repositoryBaseClass = NaturalIdRepositoryImpl.class)
+public class RepositoryConfiguration {
+}
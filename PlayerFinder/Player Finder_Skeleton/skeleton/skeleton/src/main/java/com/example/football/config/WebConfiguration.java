@@ -0,0 +1,21 @@
+package com.example.football.config;
+
+import com.example.football.web.interceptors.StatementCountInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final StatementCountInterceptor statementCountInterceptor;
+
+    public WebConfiguration(StatementCountInterceptor statementCountInterceptor) {
+        this.statementCountInterceptor = statementCountInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementCountInterceptor);
+    }
+}
@@ -1,12 +1,23 @@
 package com.example.football.models.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import javax.persistence.Basic;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
+@NaturalIdCache(region = "teams-natural-id")
 public class Team extends BaseEntity {
 
     private String name;
@@ -18,6 +29,7 @@ public class Team extends BaseEntity {
     public Team() {
     }
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     public String getName() {
         return name;
@@ -45,6 +57,7 @@ public class Team extends BaseEntity {
         this.fanBase = fanBase;
     }
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT", nullable = false)
     public String getHistory() {
         return history;
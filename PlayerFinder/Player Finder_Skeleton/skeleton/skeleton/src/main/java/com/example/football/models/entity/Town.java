@@ -1,11 +1,22 @@
 package com.example.football.models.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import javax.persistence.Basic;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.Table;
 
 @Entity
 @Table(name = "towns")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "towns")
+@NaturalIdCache(region = "towns-natural-id")
 public class Town extends BaseEntity {
 
     private String name;
@@ -15,6 +26,7 @@ public class Town extends BaseEntity {
     public Town() {
     }
 
+    @NaturalId
     @Column(unique = true, nullable = false)
     public String getName() {
         return name;
@@ -33,6 +45,7 @@ public class Town extends BaseEntity {
         this.population = population;
     }
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT", nullable = false)
     public String getTravelGuide() {
         return travelGuide;
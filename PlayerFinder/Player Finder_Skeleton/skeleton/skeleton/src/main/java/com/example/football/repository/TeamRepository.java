@@ -1,15 +1,16 @@
 package com.example.football.repository;
 
 import com.example.football.models.entity.Team;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends NaturalIdRepository<Team, Long> {
 
     boolean existsByName(String name);
 
-    Optional<Team> findByName(String name);
+    default Optional<Team> findByName(String name) {
+        return findBySimpleNaturalId(name);
+    }
 }
@@ -1,13 +1,14 @@
 package com.example.football.repository;
 
 import com.example.football.models.entity.Town;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface TownRepository extends JpaRepository<Town, Long> {
+public interface TownRepository extends NaturalIdRepository<Town, Long> {
 
     boolean existsByName(String name);
 
-    Town findByName(String name);
+    default Town findByName(String name) {
+        return findBySimpleNaturalId(name).orElse(null);
+    }
 }
@@ -7,9 +7,15 @@ import com.example.football.service.PlayerService;
 import com.example.football.service.StatService;
 import com.example.football.service.TeamService;
 import com.example.football.service.TownService;
+import com.example.football.util.ChunkedSaver;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportPipeline;
+import com.example.football.util.ImportRecord;
+import com.example.football.util.ImportStage;
 import com.example.football.util.ValidationUtil;
 import com.example.football.util.XmlParser;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.xml.bind.JAXBException;
@@ -17,28 +23,38 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 public class PlayerServiceImpl implements PlayerService {
 
-    private static final String PLAYERS_FILE_PATH = "src/main/resources/files/xml/players.xml";
+    private static final String PLAYERS_FILE = "xml/players.xml";
 
     private final PlayerRepository playerRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
     private final XmlParser xmlParser;
     private final TownService townService;
     private final TeamService teamService;
     private final StatService statService;
+    private final String playersFilePath;
 
-    public PlayerServiceImpl(PlayerRepository playerRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, TownService townService, TeamService teamService, StatService statService) {
+    public PlayerServiceImpl(PlayerRepository playerRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, TownService townService, TeamService teamService, StatService statService, @Value("${import.files-dir}") String filesDir) {
         this.playerRepository = playerRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
         this.xmlParser = xmlParser;
         this.townService = townService;
         this.teamService = teamService;
         this.statService = statService;
+        this.playersFilePath = Path.of(filesDir, PLAYERS_FILE).toString();
     }
 
     @Override
@@ -48,37 +64,41 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public String readPlayersFileContent() throws IOException {
-        return Files.readString(Path.of(PLAYERS_FILE_PATH));
+        return Files.readString(Path.of(playersFilePath));
     }
 
     @Override
     public String importPlayers() throws JAXBException, FileNotFoundException {
-        StringBuilder result = new StringBuilder();
-
-        xmlParser.fromFile(PLAYERS_FILE_PATH, PlayerRootSeedDto.class)
-                .getPlayers()
-                .stream()
-                .filter(playerSeedDto -> {
-                    boolean isValid = validationUtil.isValid(playerSeedDto)
-                            && !checkIfPlayerExistsInDataBase(playerSeedDto.getEmail())
-                            && checkIfTownExistsInDataBase(playerSeedDto.getTown().getName())
-                            && checkIfTeamExistsInDataBase(playerSeedDto.getTeam().getName());
-
-                    result.append(isValid ? String.format("Successfully imported Player %s %s - %s",
-                            playerSeedDto.getFirstName(), playerSeedDto.getLastName(), playerSeedDto.getPosition())
-                            : "Invalid Player").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(playerSeedDto -> {
-                    Player player = modelMapper.map(playerSeedDto, Player.class);
-                    player.setTown(townService.findTownByName(playerSeedDto.getTown().getName()));
-                    player.setTeam(teamService.findTeamByName(playerSeedDto.getTeam().getName()));
-                    player.setStat(statService.findStatById(playerSeedDto.getStat().getId()));
-
-                    return player;
-                }).forEach(playerRepository::save);
-
-        return result.toString().trim();
+        // Rows are saved a chunk at a time, so a repeat of a row still waiting in the current chunk is not in the
+        // database yet and has to be caught here
+        Set<String> emails = new HashSet<>();
+
+        long parseStart = System.nanoTime();
+        PlayerRootSeedDto playerRootSeedDto = xmlParser.fromFile(playersFilePath, PlayerRootSeedDto.class);
+        importMetrics.record(Player.class, ImportStage.PARSE, System.nanoTime() - parseStart);
+
+        return importPipeline.run(Player.class, playerRootSeedDto.getPlayers().stream(), playerSeedDto -> {
+            if (!importMetrics.time(Player.class, ImportStage.VALIDATE, () -> validationUtil.isValid(playerSeedDto)
+                    && !checkIfPlayerExistsInDataBase(playerSeedDto.getEmail())
+                    && checkIfTownExistsInDataBase(playerSeedDto.getTown().getName())
+                    && checkIfTeamExistsInDataBase(playerSeedDto.getTeam().getName()))) {
+                return ImportRecord.<Player>rejected("Invalid Player");
+            }
+
+            Player player = importMetrics.time(Player.class, ImportStage.MAP, () -> modelMapper.map(playerSeedDto, Player.class));
+
+            importMetrics.time(Player.class, ImportStage.RESOLVE, () -> {
+                player.setTown(townService.findTownByName(playerSeedDto.getTown().getName()));
+                player.setTeam(teamService.findTeamByName(playerSeedDto.getTeam().getName()));
+                player.setStat(statService.findStatById(playerSeedDto.getStat().getId()));
+
+                return player;
+            });
+
+            return ImportRecord.imported(player, String.format("Successfully imported Player %s %s - %s",
+                    playerSeedDto.getFirstName(), playerSeedDto.getLastName(), playerSeedDto.getPosition()));
+        }, record -> emails.add(record.getEntity().getEmail()) ? record : ImportRecord.rejected("Invalid Player"),
+                players -> chunkedSaver.saveAll(players, playerRepository)).trim();
     }
 
     private boolean checkIfTeamExistsInDataBase(String name) {
@@ -4,9 +4,15 @@ import com.example.football.models.dto.xml.StatRootSeedDto;
 import com.example.football.models.entity.Stat;
 import com.example.football.repository.StatRepository;
 import com.example.football.service.StatService;
+import com.example.football.util.ChunkedSaver;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportPipeline;
+import com.example.football.util.ImportRecord;
+import com.example.football.util.ImportStage;
 import com.example.football.util.ValidationUtil;
 import com.example.football.util.XmlParser;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.xml.bind.JAXBException;
@@ -14,22 +20,32 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 public class StatServiceImpl implements StatService {
 
-    private static final String STATS_FILE_PATH = "src/main/resources/files/xml/stats.xml";
+    private static final String STATS_FILE = "xml/stats.xml";
 
     private final StatRepository statRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
     private final XmlParser xmlParser;
+    private final String statsFilePath;
 
-    public StatServiceImpl(StatRepository statRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser) {
+    public StatServiceImpl(StatRepository statRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, @Value("${import.files-dir}") String filesDir) {
         this.statRepository = statRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
         this.xmlParser = xmlParser;
+        this.statsFilePath = Path.of(filesDir, STATS_FILE).toString();
     }
 
     @Override
@@ -39,30 +55,43 @@ public class StatServiceImpl implements StatService {
 
     @Override
     public String readStatsFileContent() throws IOException {
-        return Files.readString(Path.of(STATS_FILE_PATH));
+        return Files.readString(Path.of(statsFilePath));
     }
 
     @Override
     public String importStats() throws JAXBException, FileNotFoundException {
-        StringBuilder result = new StringBuilder();
+        // Rows are saved a chunk at a time, so the values of rows still waiting in the current chunk are not in the
+        // database yet and have to be checked here
+        Set<Double> passing = new HashSet<>();
+        Set<Double> shooting = new HashSet<>();
+        Set<Double> endurance = new HashSet<>();
 
-        xmlParser.fromFile(STATS_FILE_PATH, StatRootSeedDto.class)
-                .getStats()
-                .stream()
-                .filter(statSeedDto -> {
-                    boolean isValid = validationUtil.isValid(statSeedDto)
-                            && !checkIfStatAlreadyExistsInDataBase(statSeedDto.getPassing(),
-                            statSeedDto.getShooting(), statSeedDto.getEndurance());
+        long parseStart = System.nanoTime();
+        StatRootSeedDto statRootSeedDto = xmlParser.fromFile(statsFilePath, StatRootSeedDto.class);
+        importMetrics.record(Stat.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-                    result.append(isValid ? String.format("Successfully imported Stat %.2f - %.2f - %.2f",
-                            statSeedDto.getShooting(), statSeedDto.getPassing(), statSeedDto.getEndurance())
-                            : "Invalid Stat").append(System.lineSeparator());
+        return importPipeline.run(Stat.class, statRootSeedDto.getStats().stream(), statSeedDto -> {
+            if (!importMetrics.time(Stat.class, ImportStage.VALIDATE, () -> validationUtil.isValid(statSeedDto))) {
+                return ImportRecord.<Stat>rejected("Invalid Stat");
+            }
 
-                    return isValid;
-                }).map(statSeedDto -> modelMapper.map(statSeedDto, Stat.class))
-                .forEach(statRepository::save);
+            return ImportRecord.imported(importMetrics.time(Stat.class, ImportStage.MAP, () -> modelMapper.map(statSeedDto, Stat.class)),
+                    String.format("Successfully imported Stat %.2f - %.2f - %.2f",
+                            statSeedDto.getShooting(), statSeedDto.getPassing(), statSeedDto.getEndurance()));
+        }, record -> {
+            Stat stat = record.getEntity();
 
-        return result.toString().trim();
+            if (importMetrics.time(Stat.class, ImportStage.VALIDATE, () -> checkIfStatAlreadyExists(stat.getPassing(),
+                    stat.getShooting(), stat.getEndurance(), passing, shooting, endurance))) {
+                return ImportRecord.rejected("Invalid Stat");
+            }
+
+            passing.add(stat.getPassing());
+            shooting.add(stat.getShooting());
+            endurance.add(stat.getEndurance());
+
+            return record;
+        }, stats -> chunkedSaver.saveAll(stats, statRepository)).trim();
     }
 
     @Override
@@ -70,8 +99,10 @@ public class StatServiceImpl implements StatService {
         return statRepository.findById(statId).orElse(null);
     }
 
-    private boolean checkIfStatAlreadyExistsInDataBase(Double passing, Double shooting, Double endurance) {
-        return statRepository.existsByPassing(passing) && statRepository.existsByShooting(shooting)
-                && statRepository.existsByEndurance(endurance);
+    private boolean checkIfStatAlreadyExists(Double passing, Double shooting, Double endurance,
+                                             Set<Double> pendingPassing, Set<Double> pendingShooting, Set<Double> pendingEndurance) {
+        return (pendingPassing.contains(passing) || statRepository.existsByPassing(passing))
+                && (pendingShooting.contains(shooting) || statRepository.existsByShooting(shooting))
+                && (pendingEndurance.contains(endurance) || statRepository.existsByEndurance(endurance));
     }
 }
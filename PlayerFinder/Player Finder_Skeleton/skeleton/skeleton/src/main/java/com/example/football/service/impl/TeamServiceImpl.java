@@ -5,33 +5,49 @@ import com.example.football.models.entity.Team;
 import com.example.football.repository.TeamRepository;
 import com.example.football.service.TeamService;
 import com.example.football.service.TownService;
+import com.example.football.util.ChunkedSaver;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportPipeline;
+import com.example.football.util.ImportRecord;
+import com.example.football.util.ImportStage;
 import com.example.football.util.ValidationUtil;
 import com.google.gson.Gson;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 public class TeamServiceImpl implements TeamService {
 
-    private static final String TEAMS_FILE_PATH = "src/main/resources/files/json/teams.json";
+    private static final String TEAMS_FILE = "json/teams.json";
 
     private final TeamRepository teamRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final ModelMapper modelMapper;
     private final Gson gson;
     private final ValidationUtil validationUtil;
     private final TownService townService;
+    private final String teamsFilePath;
 
-    public TeamServiceImpl(TeamRepository teamRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, TownService townService) {
+    public TeamServiceImpl(TeamRepository teamRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, TownService townService, @Value("${import.files-dir}") String filesDir) {
         this.teamRepository = teamRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.modelMapper = modelMapper;
         this.gson = gson;
         this.validationUtil = validationUtil;
         this.townService = townService;
+        this.teamsFilePath = Path.of(filesDir, TEAMS_FILE).toString();
     }
 
     @Override
@@ -41,32 +57,34 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     public String readTeamsFileContent() throws IOException {
-        return Files.readString(Path.of(TEAMS_FILE_PATH));
+        return Files.readString(Path.of(teamsFilePath));
     }
 
     @Override
     public String importTeams() throws IOException {
-        StringBuilder result = new StringBuilder();
-
-        Arrays.stream(gson.fromJson(readTeamsFileContent(), TeamSeedDto[].class))
-                .filter(teamSeedDto -> {
-                    boolean isValid = validationUtil.isValid(teamSeedDto)
-                            && townExistsInDataBase(teamSeedDto.getTownName())
-                            && !teamAlreadyExists(teamSeedDto.getName());
-
-                    result.append(isValid ? String.format("Successfully imported Team %s - %d"
-                            ,teamSeedDto.getName(), teamSeedDto.getFanBase())
-                            : "Invalid Team").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(teamSeedDto -> {
-                    Team team = modelMapper.map(teamSeedDto, Team.class);
-                    team.setTown(townService.findTownByName(teamSeedDto.getTownName()));
-
-                    return team;
-                }).forEach(teamRepository::save);
-
-        return result.toString().trim();
+        // Rows are saved a chunk at a time, so a repeat of a row still waiting in the current chunk is not in the
+        // database yet and has to be caught here
+        Set<String> names = new HashSet<>();
+        String teamsFileContent = readTeamsFileContent();
+
+        long parseStart = System.nanoTime();
+        TeamSeedDto[] teamSeedDtos = gson.fromJson(teamsFileContent, TeamSeedDto[].class);
+        importMetrics.record(Team.class, ImportStage.PARSE, System.nanoTime() - parseStart);
+
+        return importPipeline.run(Team.class, Arrays.stream(teamSeedDtos), teamSeedDto -> {
+            if (!importMetrics.time(Team.class, ImportStage.VALIDATE, () -> validationUtil.isValid(teamSeedDto)
+                    && townExistsInDataBase(teamSeedDto.getTownName())
+                    && !teamAlreadyExists(teamSeedDto.getName()))) {
+                return ImportRecord.<Team>rejected("Invalid Team");
+            }
+
+            Team team = importMetrics.time(Team.class, ImportStage.MAP, () -> modelMapper.map(teamSeedDto, Team.class));
+            team.setTown(importMetrics.time(Team.class, ImportStage.RESOLVE, () -> townService.findTownByName(teamSeedDto.getTownName())));
+
+            return ImportRecord.imported(team, String.format("Successfully imported Team %s - %d",
+                    teamSeedDto.getName(), teamSeedDto.getFanBase()));
+        }, record -> names.add(record.getEntity().getName()) ? record : ImportRecord.rejected("Invalid Team"),
+                teams -> chunkedSaver.saveAll(teams, teamRepository)).trim();
     }
 
     @Override
@@ -4,9 +4,15 @@ import com.example.football.models.dto.json.TownSeedDto;
 import com.example.football.models.entity.Town;
 import com.example.football.repository.TownRepository;
 import com.example.football.service.TownService;
+import com.example.football.util.ChunkedSaver;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportPipeline;
+import com.example.football.util.ImportRecord;
+import com.example.football.util.ImportStage;
 import com.example.football.util.ValidationUtil;
 import com.google.gson.Gson;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -17,18 +23,26 @@ import java.util.Arrays;
 @Service
 public class TownServiceImpl implements TownService {
 
-    private static final String TOWNS_FILE_PATH = "src/main/resources/files/json/towns.json";
+    private static final String TOWNS_FILE = "json/towns.json";
 
     private final TownRepository townRepository;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
     private final ModelMapper modelMapper;
     private final Gson gson;
     private final ValidationUtil validationUtil;
+    private final String townsFilePath;
 
-    public TownServiceImpl(TownRepository townRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil) {
+    public TownServiceImpl(TownRepository townRepository, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, @Value("${import.files-dir}") String filesDir) {
         this.townRepository = townRepository;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
         this.modelMapper = modelMapper;
         this.gson = gson;
         this.validationUtil = validationUtil;
+        this.townsFilePath = Path.of(filesDir, TOWNS_FILE).toString();
     }
 
     @Override
@@ -38,26 +52,25 @@ public class TownServiceImpl implements TownService {
 
     @Override
     public String readTownsFileContent() throws IOException {
-        return Files.readString(Path.of(TOWNS_FILE_PATH));
+        return Files.readString(Path.of(townsFilePath));
     }
 
     @Override
     public String importTowns() throws IOException {
-        StringBuilder result = new StringBuilder();
+        String townsFileContent = readTownsFileContent();
 
-        Arrays.stream(gson.fromJson(readTownsFileContent(), TownSeedDto[].class))
-                .filter(townSeedDto -> {
-                    boolean isValid = validationUtil.isValid(townSeedDto);
+        long parseStart = System.nanoTime();
+        TownSeedDto[] townSeedDtos = gson.fromJson(townsFileContent, TownSeedDto[].class);
+        importMetrics.record(Town.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-                    result.append(isValid ? String.format("Successfully imported Town %s - %d",
-                            townSeedDto.getName(), townSeedDto.getPopulation())
-                            : "Invalid Town").append(System.lineSeparator());
+        return importPipeline.run(Town.class, Arrays.stream(townSeedDtos), townSeedDto -> {
+            if (!importMetrics.time(Town.class, ImportStage.VALIDATE, () -> validationUtil.isValid(townSeedDto))) {
+                return ImportRecord.<Town>rejected("Invalid Town");
+            }
 
-                    return isValid;
-                }).map(townSeedDto -> modelMapper.map(townSeedDto, Town.class))
-                .forEach(townRepository::save);
-
-        return result.toString().trim();
+            return ImportRecord.imported(importMetrics.time(Town.class, ImportStage.MAP, () -> modelMapper.map(townSeedDto, Town.class)),
+                    String.format("Successfully imported Town %s - %d", townSeedDto.getName(), townSeedDto.getPopulation()));
+        }, towns -> chunkedSaver.saveAll(towns, townRepository)).trim();
     }
 
     @Override
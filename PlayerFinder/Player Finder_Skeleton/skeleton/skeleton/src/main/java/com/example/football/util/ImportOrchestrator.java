@@ -0,0 +1,12 @@
+package com.example.football.util;
+
+import java.util.Set;
+
+public interface ImportOrchestrator {
+
+    Set<String> getEntities();
+
+    String importEntity(String entity) throws Exception;
+
+    String importAll() throws Exception;
+}
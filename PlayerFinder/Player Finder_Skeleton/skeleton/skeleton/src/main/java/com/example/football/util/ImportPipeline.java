@@ -0,0 +1,14 @@
+package com.example.football.util;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+public interface ImportPipeline {
+
+    <S, T> String run(Class<T> entityType, Stream<S> sources, Function<S, ImportRecord<T>> worker, Consumer<Stream<T>> writer);
+
+    <S, T> String run(Class<T> entityType, Stream<S> sources, Function<S, ImportRecord<T>> worker, UnaryOperator<ImportRecord<T>> admit,
+                      Consumer<Stream<T>> writer);
+}
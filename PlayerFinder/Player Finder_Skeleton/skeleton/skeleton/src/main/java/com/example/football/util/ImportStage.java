@@ -0,0 +1,5 @@
+package com.example.football.util;
+
+public enum ImportStage {
+    PARSE, VALIDATE, MAP, RESOLVE, PERSIST
+}
@@ -0,0 +1,36 @@
+package com.example.football.util;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.BooleanSupplier;
+
+public class ImportTask {
+
+    private final String name;
+    private final List<String> dependencies;
+    private final BooleanSupplier imported;
+    private final Callable<String> importer;
+
+    public ImportTask(String name, List<String> dependencies, BooleanSupplier imported, Callable<String> importer) {
+        this.name = name;
+        this.dependencies = dependencies;
+        this.imported = imported;
+        this.importer = importer;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+
+    public boolean isImported() {
+        return imported.getAsBoolean();
+    }
+
+    public String runImport() throws Exception {
+        return importer.call();
+    }
+}
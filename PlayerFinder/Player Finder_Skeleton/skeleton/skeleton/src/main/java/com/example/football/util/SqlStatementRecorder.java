@@ -0,0 +1,8 @@
+package com.example.football.util;
+
+public interface SqlStatementRecorder {
+
+    void record(String sql, long elapsedNanos, Object[] parameters, int batchSize);
+
+    void recordResultBytes(String sql, long bytes);
+}
@@ -0,0 +1,107 @@
+package com.example.football.util.impl;
+
+import com.example.football.models.dto.view.ImportStatsViewDto;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportStage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class ImportMetricsImpl implements ImportMetrics {
+
+    private static final String STAGE_TIMER = "import.stage";
+    private static final String ROWS_COUNTER = "import.rows";
+    private static final String ROWS_PER_SECOND_GAUGE = "import.rows.per.second";
+    private static final String ENTITY_TAG = "entity";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, EntityMeters> meters = new ConcurrentSkipListMap<>();
+
+    public ImportMetricsImpl(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <R> R time(Class<?> entityType, ImportStage stage, Supplier<R> action) {
+        long start = System.nanoTime();
+
+        try {
+            return action.get();
+        } finally {
+            record(entityType, stage, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void record(Class<?> entityType, ImportStage stage, long elapsedNanos) {
+        metersFor(entityType).stages.get(stage).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordRun(Class<?> entityType, long imported, long rejected, long elapsedNanos) {
+        EntityMeters entityMeters = metersFor(entityType);
+
+        entityMeters.imported.increment(imported);
+        entityMeters.rejected.increment(rejected);
+        entityMeters.rowsPerSecond.set(imported * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+    }
+
+    @Override
+    public List<ImportStatsViewDto> getStats() {
+        return meters.entrySet().stream()
+                .map(entry -> {
+                    EntityMeters entityMeters = entry.getValue();
+                    Map<ImportStage, Double> stageMillis = new EnumMap<>(ImportStage.class);
+                    entityMeters.stages.forEach((stage, timer) -> stageMillis.put(stage, timer.totalTime(TimeUnit.MILLISECONDS)));
+
+                    return new ImportStatsViewDto(entry.getKey(), (long) entityMeters.imported.count(),
+                            (long) entityMeters.rejected.count(), entityMeters.rowsPerSecond.get(), stageMillis);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private EntityMeters metersFor(Class<?> entityType) {
+        return meters.computeIfAbsent(entityType.getSimpleName(), this::createMeters);
+    }
+
+    private EntityMeters createMeters(String entity) {
+        Map<ImportStage, Timer> stages = new EnumMap<>(ImportStage.class);
+
+        for (ImportStage stage : ImportStage.values()) {
+            stages.put(stage, meterRegistry.timer(STAGE_TIMER, ENTITY_TAG, entity, "stage", stage.name().toLowerCase()));
+        }
+
+        return new EntityMeters(stages,
+                meterRegistry.counter(ROWS_COUNTER, ENTITY_TAG, entity, "outcome", "imported"),
+                meterRegistry.counter(ROWS_COUNTER, ENTITY_TAG, entity, "outcome", "rejected"),
+                meterRegistry.gauge(ROWS_PER_SECOND_GAUGE, Tags.of(ENTITY_TAG, entity), new AtomicLong()));
+    }
+
+    private static class EntityMeters {
+
+        private final Map<ImportStage, Timer> stages;
+        private final Counter imported;
+        private final Counter rejected;
+        private final AtomicLong rowsPerSecond;
+
+        private EntityMeters(Map<ImportStage, Timer> stages, Counter imported, Counter rejected, AtomicLong rowsPerSecond) {
+            this.stages = stages;
+            this.imported = imported;
+            this.rejected = rejected;
+            this.rowsPerSecond = rowsPerSecond;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.football.util.impl;
+
+import com.example.football.util.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class StatementCounterImpl implements StatementCounter, StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<LongAdder> COUNT = ThreadLocal.withInitial(LongAdder::new);
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get().increment();
+
+        return sql;
+    }
+
+    @Override
+    public long getCount() {
+        return COUNT.get().sum();
+    }
+
+    // A fresh count rather than a zeroed one, so tasks still carrying the thread's previous count can't add to this one
+    @Override
+    public void reset() {
+        COUNT.set(new LongAdder());
+    }
+
+    @Override
+    public long countStatements(Runnable action) {
+        long before = getCount();
+        action.run();
+
+        return getCount() - before;
+    }
+
+    // Statements the task issues on another thread, such as an import pipeline worker, count toward the calling thread
+    @Override
+    public <V> Callable<V> carry(Callable<V> task) {
+        LongAdder count = COUNT.get();
+
+        return () -> {
+            LongAdder previous = COUNT.get();
+            COUNT.set(count);
+
+            try {
+                return task.call();
+            } finally {
+                COUNT.set(previous);
+            }
+        };
+    }
+}
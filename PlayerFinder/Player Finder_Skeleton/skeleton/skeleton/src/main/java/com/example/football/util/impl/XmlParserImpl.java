@@ -1,37 +1,105 @@
 package com.example.football.util.impl;
 
 import com.example.football.util.XmlParser;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import javax.annotation.PostConstruct;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class XmlParserImpl implements XmlParser {
 
-    private JAXBContext jaxbContext;
+    private static final String DTO_BASE_PACKAGE = "com.example.football.models.dto";
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, BlockingQueue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, BlockingQueue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerRootSeedDtos() throws JAXBException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(XmlRootElement.class));
+
+        for (BeanDefinition beanDefinition : scanner.findCandidateComponents(DTO_BASE_PACKAGE)) {
+            getContext(ClassUtils.resolveClassName(beanDefinition.getBeanClassName(), getClass().getClassLoader()));
+        }
+    }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T fromFile(String filePath, Class<T> tClass) throws JAXBException, FileNotFoundException {
-        jaxbContext = JAXBContext.newInstance(tClass);
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            throw new FileNotFoundException(filePath);
+        }
 
-        return (T) unmarshaller.unmarshal(new FileReader(filePath));
+        Unmarshaller unmarshaller = borrowUnmarshaller(tClass);
+        try {
+            return tClass.cast(unmarshaller.unmarshal(file));
+        } finally {
+            unmarshallers.get(tClass).offer(unmarshaller);
+        }
     }
 
     @Override
     public <T> void writeToFile(String filePath, T entity) throws JAXBException {
+        Class<?> rootClass = entity.getClass();
+
+        Marshaller marshaller = borrowMarshaller(rootClass);
+        try {
+            marshaller.marshal(entity, new File(filePath));
+        } finally {
+            marshallers.get(rootClass).offer(marshaller);
+        }
+    }
+
+    private JAXBContext getContext(Class<?> rootClass) throws JAXBException {
+        JAXBContext context = contexts.get(rootClass);
+
+        if (context == null) {
+            context = JAXBContext.newInstance(rootClass);
+            JAXBContext registered = contexts.putIfAbsent(rootClass, context);
+
+            if (registered != null) {
+                context = registered;
+            }
+        }
+
+        return context;
+    }
+
+    private Unmarshaller borrowUnmarshaller(Class<?> rootClass) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers
+                .computeIfAbsent(rootClass, key -> new ArrayBlockingQueue<>(POOL_SIZE))
+                .poll();
+
+        return unmarshaller != null ? unmarshaller : getContext(rootClass).createUnmarshaller();
+    }
+
+    private Marshaller borrowMarshaller(Class<?> rootClass) throws JAXBException {
+        Marshaller marshaller = marshallers
+                .computeIfAbsent(rootClass, key -> new ArrayBlockingQueue<>(POOL_SIZE))
+                .poll();
 
-        jaxbContext = JAXBContext.newInstance(entity.getClass());
-        Marshaller marshaller = jaxbContext.createMarshaller();
-        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        if (marshaller == null) {
+            marshaller = getContext(rootClass).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
 
-        marshaller.marshal(entity, new File(filePath));
+        return marshaller;
     }
 }
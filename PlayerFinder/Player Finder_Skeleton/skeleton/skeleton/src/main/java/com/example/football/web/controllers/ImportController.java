@@ -1,6 +1,10 @@
 package com.example.football.web.controllers;
 
 import com.example.football.service.*;
+import com.example.football.util.ImportMetrics;
+import com.example.football.util.ImportOrchestrator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -8,24 +12,28 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 
 
-import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 @Controller
 @RequestMapping("/import")
 public class ImportController extends BaseController {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportController.class);
+
     private final TownService townService;
     private final TeamService teamService;
     private final StatService statService;
     private final PlayerService playerService;
+    private final ImportOrchestrator importOrchestrator;
+    private final ImportMetrics importMetrics;
 
-    public ImportController(TownService townService, TeamService teamService, StatService statService, PlayerService playerService) {
+    public ImportController(TownService townService, TeamService teamService, StatService statService, PlayerService playerService, ImportOrchestrator importOrchestrator, ImportMetrics importMetrics) {
         this.townService = townService;
         this.teamService = teamService;
         this.statService = statService;
         this.playerService = playerService;
+        this.importOrchestrator = importOrchestrator;
+        this.importMetrics = importMetrics;
     }
 
 
@@ -52,6 +60,13 @@ public class ImportController extends BaseController {
     }
 
 
+    // /import/stats is the Stat entity's import page, so the import timings live under /import/statistics
+    @GetMapping("/statistics")
+    public ModelAndView importStatistics() {
+        return super.view("import-statistics", "stats", this.importMetrics.getStats());
+    }
+
+
     @GetMapping("/stats")
     public ModelAndView importStats() throws IOException {
         String fileContent = this.statService.readStatsFileContent();
@@ -59,8 +74,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/stats")
-    public ModelAndView importStatsConfirm() throws JAXBException, IOException {
-        System.out.println(this.statService.importStats());
+    public ModelAndView importStatsConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("stats"));
 
         return super.redirect("/import/xml");
     }
@@ -73,8 +88,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/players")
-    public ModelAndView importPlayersConfirm() throws JAXBException, FileNotFoundException, IOException {
-        System.out.println(this.playerService.importPlayers());
+    public ModelAndView importPlayersConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("players"));
 
         return super.redirect("/import/xml");
     }
@@ -87,8 +102,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/towns")
-    public ModelAndView importTownsConfirm() throws IOException {
-        System.out.println(this.townService.importTowns());
+    public ModelAndView importTownsConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("towns"));
         return super.redirect("/import/json");
     }
 
@@ -100,8 +115,15 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/teams")
-    public ModelAndView importTeamsConfirm() throws IOException, JAXBException {
-        System.out.println(this.teamService.importTeams());
+    public ModelAndView importTeamsConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("teams"));
         return super.redirect("/import/json");
     }
+
+    @PostMapping("/all")
+    public ModelAndView importAllConfirm() throws Exception {
+        LOGGER.info("Imported all entities:{}{}", System.lineSeparator(), this.importOrchestrator.importAll());
+
+        return super.redirect("/");
+    }
 }
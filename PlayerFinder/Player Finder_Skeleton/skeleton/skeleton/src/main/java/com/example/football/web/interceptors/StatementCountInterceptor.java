@@ -0,0 +1,42 @@
+package com.example.football.web.interceptors;
+
+import com.example.football.util.StatementCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+@Component
+public class StatementCountInterceptor implements HandlerInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementCountInterceptor.class);
+
+    private final StatementCounter statementCounter;
+    private final long warnThreshold;
+
+    public StatementCountInterceptor(StatementCounter statementCounter,
+                                     @Value("${sql.statement-count.warn-threshold}") long warnThreshold) {
+        this.statementCounter = statementCounter;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.reset();
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        long count = statementCounter.getCount();
+
+        if (count > warnThreshold) {
+            LOGGER.warn("{} {} issued {} SQL statements (threshold {})", request.getMethod(), request.getRequestURI(), count, warnThreshold);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- Ids come from one <entity>_seq table per entity, which ddl-auto=update creates starting at 1. Tables filled while ids
+-- were still IDENTITY columns already hold those values, so every sequence is moved past its table's highest id before
+-- the first insert. Sequences that are already ahead are left alone, so the script can run on every start
+
+UPDATE town_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM towns)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM towns);
+
+UPDATE team_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM teams)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM teams);
+
+UPDATE stat_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM stats)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM stats);
+
+UPDATE player_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM players)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM players);
@@ -0,0 +1,85 @@
+package softuni.exam.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import softuni.exam.ExamApplication;
+import softuni.exam.bench.SeedDataGenerator;
+import softuni.exam.repository.PictureRepository;
+import softuni.exam.service.CarService;
+import softuni.exam.service.PictureService;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PictureImportBenchmark {
+
+    private static final Path DATA_DIR = Path.of("target", "bench-data", "pictures");
+
+    // Generated pictures files stored before measuring, each with its own picture names; every measured import then
+    // gets a fresh file as well, so the time per import should stay flat as the pictures table grows
+    @Param({"0", "5", "20"})
+    private int preloadedImports;
+
+    private ConfigurableApplicationContext context;
+    private PictureService pictureService;
+    private SeedDataGenerator seedDataGenerator;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void startContext() throws IOException, XMLStreamException {
+        seedDataGenerator = new SeedDataGenerator(1, DATA_DIR);
+        seedDataGenerator.generate();
+
+        context = new SpringApplicationBuilder(ExamApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("bench")
+                .run("--import.files-dir=" + DATA_DIR);
+
+        pictureService = context.getBean(PictureService.class);
+        context.getBean(CarService.class).importCars();
+
+        for (int i = 0; i < preloadedImports; i++) {
+            seedDataGenerator.generatePictures("preload" + i + "-");
+            pictureService.importPictures();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void generatePictures() throws IOException {
+        seedDataGenerator.generatePictures("run" + invocation++ + "-");
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        System.out.printf("%d pictures stored%n", context.getBean(PictureRepository.class).count());
+
+        context.close();
+    }
+
+    @Benchmark
+    public String importPictures() throws IOException {
+        return pictureService.importPictures();
+    }
+}
@@ -0,0 +1,200 @@
+package softuni.exam.bench;
+
+import com.google.gson.stream.JsonWriter;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+public class SeedDataGenerator {
+
+    private static final String DEFAULT_OUTPUT_DIR = "target/seed-data";
+    private static final long CARS_PER_SCALE = 1_000;
+    private static final long PICTURES_PER_SCALE = 5_000;
+    private static final long SELLERS_PER_SCALE = 1_000;
+    private static final long OFFERS_PER_SCALE = 10_000;
+    private static final long SEED = 42;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDate FIRST_REGISTRATION = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime FIRST_TIMESTAMP = LocalDateTime.of(2010, 1, 1, 0, 0);
+    private static final String[] MAKES = {"BMW", "Audi", "Toyota", "Skoda", "Mercedes", "Opel", "Volvo"};
+    private static final String[] MODELS = {"Sedan", "Estate", "Coupe", "Hatchback", "Roadster"};
+    private static final String[] RATINGS = {"GOOD", "BAD", "UNKNOWN"};
+    private static final String[] TOWNS = {"Sofia", "Plovdiv", "Varna", "Burgas", "Ruse"};
+
+    private final long cars;
+    private final long pictures;
+    private final long sellers;
+    private final long offers;
+    private final Path outputDir;
+    private final SplittableRandom random = new SplittableRandom(SEED);
+
+    public SeedDataGenerator(long scale, Path outputDir) {
+        this.cars = CARS_PER_SCALE * scale;
+        this.pictures = PICTURES_PER_SCALE * scale;
+        this.sellers = SELLERS_PER_SCALE * scale;
+        this.offers = OFFERS_PER_SCALE * scale;
+        this.outputDir = outputDir;
+    }
+
+    public static void main(String[] args) throws IOException, XMLStreamException {
+        long scale = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        Path outputDir = Path.of(args.length > 1 ? args[1] : DEFAULT_OUTPUT_DIR);
+
+        new SeedDataGenerator(scale, outputDir).generate();
+    }
+
+    public void generate() throws IOException, XMLStreamException {
+        Files.createDirectories(outputDir.resolve("json"));
+        Files.createDirectories(outputDir.resolve("xml"));
+
+        writeCars(outputDir.resolve("json/cars.json"));
+        writePictures(outputDir.resolve("json/pictures.json"), "picture");
+        writeSellers(outputDir.resolve("xml/sellers.xml"));
+        writeOffers(outputDir.resolve("xml/offers.xml"));
+    }
+
+    // Rewrites only the pictures file, naming every picture with the prefix, so the cars already generated can be given
+    // another set of pictures whose unique names do not clash with the earlier ones
+    public void generatePictures(String namePrefix) throws IOException {
+        Files.createDirectories(outputDir.resolve("json"));
+
+        writePictures(outputDir.resolve("json/pictures.json"), namePrefix);
+    }
+
+    private void writeCars(Path path) throws IOException {
+        try (JsonWriter json = jsonWriter(path)) {
+            json.beginArray();
+
+            for (long i = 1; i <= cars; i++) {
+                json.beginObject()
+                        .name("make").value(MAKES[random.nextInt(MAKES.length)])
+                        .name("model").value(MODELS[random.nextInt(MODELS.length)])
+                        .name("kilometers").value(1 + random.nextInt(300_000))
+                        .name("registeredOn").value(FIRST_REGISTRATION.plusDays(random.nextInt(7_300)).format(DATE_FORMAT))
+                        .endObject();
+            }
+
+            json.endArray();
+        }
+    }
+
+    private void writePictures(Path path, String namePrefix) throws IOException {
+        try (JsonWriter json = jsonWriter(path)) {
+            json.beginArray();
+
+            for (long i = 1; i <= pictures; i++) {
+                json.beginObject()
+                        .name("name").value(namePrefix + i)
+                        .name("dateAndTime").value(randomTimestamp())
+                        .name("car").value(1 + random.nextLong(cars))
+                        .endObject();
+            }
+
+            json.endArray();
+        }
+    }
+
+    private void writeSellers(Path path) throws IOException, XMLStreamException {
+        try (Writer writer = bufferedWriter(path)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("sellers");
+
+            for (long i = 1; i <= sellers; i++) {
+                startElement(xml, 1, "seller");
+                element(xml, 2, "first-name", "First" + i);
+                element(xml, 2, "last-name", "Last" + i);
+                element(xml, 2, "email", "seller" + i + "@example.com");
+                element(xml, 2, "rating", RATINGS[random.nextInt(RATINGS.length)]);
+                element(xml, 2, "town", TOWNS[random.nextInt(TOWNS.length)]);
+                endElement(xml, 1);
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        }
+    }
+
+    private void writeOffers(Path path) throws IOException, XMLStreamException {
+        try (Writer writer = bufferedWriter(path)) {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("offers");
+
+            for (long i = 1; i <= offers; i++) {
+                startElement(xml, 1, "offer");
+                element(xml, 2, "description", "Offer number " + i + " in excellent condition");
+                element(xml, 2, "price", BigDecimal.valueOf(100_000 + random.nextInt(10_000_000), 2).toPlainString());
+                element(xml, 2, "added-on", randomTimestamp());
+                element(xml, 2, "has-gold-status", String.valueOf(random.nextBoolean()));
+                nestedElement(xml, "car", "id", String.valueOf(1 + random.nextLong(cars)));
+                nestedElement(xml, "seller", "id", String.valueOf(1 + random.nextLong(sellers)));
+                endElement(xml, 1);
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        }
+    }
+
+    private String randomTimestamp() {
+        return FIRST_TIMESTAMP.plusSeconds(random.nextLong(315_360_000)).format(DATE_TIME_FORMAT);
+    }
+
+    private static JsonWriter jsonWriter(Path path) throws IOException {
+        JsonWriter json = new JsonWriter(bufferedWriter(path));
+        json.setIndent("  ");
+
+        return json;
+    }
+
+    private static Writer bufferedWriter(Path path) throws IOException {
+        return new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static void startElement(XMLStreamWriter xml, int depth, String name) throws XMLStreamException {
+        indent(xml, depth);
+        xml.writeStartElement(name);
+    }
+
+    private static void endElement(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        indent(xml, depth);
+        xml.writeEndElement();
+    }
+
+    private static void element(XMLStreamWriter xml, int depth, String name, String value) throws XMLStreamException {
+        startElement(xml, depth, name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    private static void nestedElement(XMLStreamWriter xml, String name, String childName, String value) throws XMLStreamException {
+        startElement(xml, 2, name);
+        element(xml, 3, childName, value);
+        endElement(xml, 2);
+    }
+
+    private static void indent(XMLStreamWriter xml, int depth) throws XMLStreamException {
+        xml.writeCharacters("\n" + "    ".repeat(depth));
+    }
+}
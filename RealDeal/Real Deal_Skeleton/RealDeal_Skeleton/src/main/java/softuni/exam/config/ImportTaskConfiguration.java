@@ -0,0 +1,35 @@
+package softuni.exam.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import softuni.exam.service.CarService;
+import softuni.exam.service.OfferService;
+import softuni.exam.service.PictureService;
+import softuni.exam.service.SellerService;
+import softuni.exam.util.ImportTask;
+
+import java.util.List;
+
+@Configuration
+public class ImportTaskConfiguration {
+
+    @Bean
+    public ImportTask carsImport(CarService carService) {
+        return new ImportTask("cars", List.of(), carService::areImported, carService::importCars);
+    }
+
+    @Bean
+    public ImportTask sellersImport(SellerService sellerService) {
+        return new ImportTask("sellers", List.of(), sellerService::areImported, sellerService::importSellers);
+    }
+
+    @Bean
+    public ImportTask picturesImport(PictureService pictureService) {
+        return new ImportTask("pictures", List.of("cars"), pictureService::areImported, pictureService::importPictures);
+    }
+
+    @Bean
+    public ImportTask offersImport(OfferService offerService) {
+        return new ImportTask("offers", List.of("cars", "sellers"), offerService::areImported, offerService::importOffers);
+    }
+}
@@ -0,0 +1,21 @@
+package softuni.exam.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import softuni.exam.web.interceptors.StatementCountInterceptor;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final StatementCountInterceptor statementCountInterceptor;
+
+    public WebConfiguration(StatementCountInterceptor statementCountInterceptor) {
+        this.statementCountInterceptor = statementCountInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementCountInterceptor);
+    }
+}
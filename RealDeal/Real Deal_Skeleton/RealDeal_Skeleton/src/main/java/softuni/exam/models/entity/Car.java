@@ -53,7 +53,7 @@ public class Car extends BaseEntity {
         this.registeredOn = registeredOn;
     }
 
-    @OneToMany(mappedBy = "car", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "car")
     public Set<Picture> getPictures() {
         return pictures;
     }
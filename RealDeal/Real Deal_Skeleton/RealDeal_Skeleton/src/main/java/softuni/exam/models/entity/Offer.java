@@ -29,6 +29,7 @@ public class Offer extends BaseEntity{
         this.price = price;
     }
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     public String getDescription() {
         return description;
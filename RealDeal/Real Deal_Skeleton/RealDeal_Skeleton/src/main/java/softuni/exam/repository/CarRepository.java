@@ -1,15 +1,22 @@
 package softuni.exam.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import softuni.exam.models.entity.Car;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
 @Repository
 public interface CarRepository extends JpaRepository<Car, Long> {
 
-    @Query("SELECT c From Car c ORDER BY size(c.pictures) DESC, c.make")
+    @EntityGraph(attributePaths = "pictures")
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT c From Car c ORDER BY size(c.pictures) DESC, c.make")
     List<Car> findCarsOrderByPicturesCountThenByMake();
 }
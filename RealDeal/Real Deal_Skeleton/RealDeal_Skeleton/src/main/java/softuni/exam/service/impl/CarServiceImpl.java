@@ -2,11 +2,17 @@ package softuni.exam.service.impl;
 
 import com.google.gson.Gson;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import softuni.exam.models.dto.json.CarSeedDto;
 import softuni.exam.models.entity.Car;
 import softuni.exam.repository.CarRepository;
 import softuni.exam.service.CarService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 
 import java.io.IOException;
@@ -17,18 +23,26 @@ import java.util.Arrays;
 @Service
 public class CarServiceImpl implements CarService {
 
-    private static final String CARS_FILE_PATH = "src/main/resources/files/json/cars.json";
+    private static final String CARS_FILE = "json/cars.json";
 
     private final CarRepository carRepository;
     private final Gson gson;
     private final ModelMapper modelMapper;
     private final ValidationUtil validationUtil;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final String carsFilePath;
 
-    public CarServiceImpl(CarRepository carRepository, Gson gson, ModelMapper modelMapper, ValidationUtil validationUtil) {
+    public CarServiceImpl(CarRepository carRepository, Gson gson, ModelMapper modelMapper, ValidationUtil validationUtil, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, @Value("${import.files-dir}") String filesDir) {
         this.carRepository = carRepository;
         this.gson = gson;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.carsFilePath = Path.of(filesDir, CARS_FILE).toString();
     }
 
     @Override
@@ -38,25 +52,25 @@ public class CarServiceImpl implements CarService {
 
     @Override
     public String readCarsFileContent() throws IOException {
-        return Files.readString(Path.of(CARS_FILE_PATH));
+        return Files.readString(Path.of(carsFilePath));
     }
 
     @Override
     public String importCars() throws IOException {
-        StringBuilder result = new StringBuilder();
-
-        Arrays.stream(gson.fromJson(readCarsFileContent(), CarSeedDto[].class))
-                .filter(carSeedDto -> {
-                    boolean isValid = validationUtil.isValid(carSeedDto);
+        String carsFileContent = readCarsFileContent();
 
-                    result.append(isValid ? String.format("Successfully imported car - %s - %s",
-                            carSeedDto.getMake(), carSeedDto.getModel()) : "Invalid car").append(System.lineSeparator());
+        long parseStart = System.nanoTime();
+        CarSeedDto[] carSeedDtos = gson.fromJson(carsFileContent, CarSeedDto[].class);
+        importMetrics.record(Car.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-                    return isValid;
-                }).map(carSeedDto -> modelMapper.map(carSeedDto, Car.class))
-                .forEach(carRepository::save);
+        return importPipeline.run(Car.class, Arrays.stream(carSeedDtos), carSeedDto -> {
+            if (!importMetrics.time(Car.class, ImportStage.VALIDATE, () -> validationUtil.isValid(carSeedDto))) {
+                return ImportRecord.<Car>rejected("Invalid car");
+            }
 
-        return result.toString();
+            return ImportRecord.imported(importMetrics.time(Car.class, ImportStage.MAP, () -> modelMapper.map(carSeedDto, Car.class)),
+                    String.format("Successfully imported car - %s - %s", carSeedDto.getMake(), carSeedDto.getModel()));
+        }, cars -> chunkedSaver.saveAll(cars, carRepository));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package softuni.exam.service.impl;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import softuni.exam.models.dto.xml.OfferRootSeedDto;
 import softuni.exam.models.entity.Offer;
@@ -8,6 +9,11 @@ import softuni.exam.repository.OfferRepository;
 import softuni.exam.service.CarService;
 import softuni.exam.service.OfferService;
 import softuni.exam.service.SellerService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 import softuni.exam.util.XmlParser;
 
@@ -19,7 +25,7 @@ import java.nio.file.Path;
 @Service
 public class OfferServiceImpl implements OfferService {
 
-    private static final String OFFERS_FILE_PATH = "src/main/resources/files/xml/offers.xml";
+    private static final String OFFERS_FILE = "xml/offers.xml";
 
     private final OfferRepository offerRepository;
     private final ModelMapper modelMapper;
@@ -27,14 +33,22 @@ public class OfferServiceImpl implements OfferService {
     private final XmlParser xmlParser;
     private final CarService carService;
     private final SellerService sellerService;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final String offersFilePath;
 
-    public OfferServiceImpl(OfferRepository offerRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, CarService carService, SellerService sellerService) {
+    public OfferServiceImpl(OfferRepository offerRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, CarService carService, SellerService sellerService, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, @Value("${import.files-dir}") String filesDir) {
         this.offerRepository = offerRepository;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
         this.xmlParser = xmlParser;
         this.carService = carService;
         this.sellerService = sellerService;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.offersFilePath = Path.of(filesDir, OFFERS_FILE).toString();
     }
 
     @Override
@@ -44,33 +58,31 @@ public class OfferServiceImpl implements OfferService {
 
     @Override
     public String readOffersFileContent() throws IOException {
-        return Files.readString(Path.of(OFFERS_FILE_PATH));
+        return Files.readString(Path.of(offersFilePath));
     }
 
     @Override
     public String importOffers() throws IOException, JAXBException {
-        StringBuilder result = new StringBuilder();
+        long parseStart = System.nanoTime();
+        OfferRootSeedDto offerRootSeedDto = xmlParser.fromFile(offersFilePath, OfferRootSeedDto.class);
+        importMetrics.record(Offer.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-        xmlParser.fromFile(OFFERS_FILE_PATH, OfferRootSeedDto.class)
-                .getOffers()
-                .stream()
-                .filter(offerSeedDto -> {
-                    boolean isValid = validationUtil.isValid(offerSeedDto);
+        return importPipeline.run(Offer.class, offerRootSeedDto.getOffers().stream(), offerSeedDto -> {
+            if (!importMetrics.time(Offer.class, ImportStage.VALIDATE, () -> validationUtil.isValid(offerSeedDto))) {
+                return ImportRecord.<Offer>rejected("Invalid offer");
+            }
 
-                    result.append(isValid ? String.format("Successfully import offer %s - %s",
-                            offerSeedDto.getAddedOn(), offerSeedDto.getHasGoldStatus())
-                            : "Invalid offer").append(System.lineSeparator());
+            Offer offer = importMetrics.time(Offer.class, ImportStage.MAP, () -> modelMapper.map(offerSeedDto, Offer.class));
 
-                    return isValid;
-                }).map(offerSeedDto -> {
-                    Offer offer = modelMapper.map(offerSeedDto, Offer.class);
+            importMetrics.time(Offer.class, ImportStage.RESOLVE, () -> {
+                offer.setCar(carService.getCarById(offerSeedDto.getCar().getId()));
+                offer.setSeller(sellerService.getSellerById(offerSeedDto.getSeller().getId()));
 
-                    offer.setCar(carService.getCarById(offerSeedDto.getCar().getId()));
-                    offer.setSeller(sellerService.getSellerById(offerSeedDto.getSeller().getId()));
+                return offer;
+            });
 
-                    return offer;
-                }).forEach(offerRepository::save);
-
-        return result.toString();
+            return ImportRecord.imported(offer,
+                    String.format("Successfully import offer %s - %s", offerSeedDto.getAddedOn(), offerSeedDto.getHasGoldStatus()));
+        }, offers -> chunkedSaver.saveAll(offers, offerRepository));
     }
 }
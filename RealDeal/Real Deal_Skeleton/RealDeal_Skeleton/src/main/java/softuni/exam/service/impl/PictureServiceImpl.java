@@ -2,12 +2,18 @@ package softuni.exam.service.impl;
 
 import com.google.gson.Gson;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import softuni.exam.models.dto.json.PictureSeedDto;
 import softuni.exam.models.entity.Picture;
 import softuni.exam.repository.PictureRepository;
 import softuni.exam.service.CarService;
 import softuni.exam.service.PictureService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 
 import java.io.IOException;
@@ -18,20 +24,28 @@ import java.util.Arrays;
 @Service
 public class PictureServiceImpl implements PictureService {
 
-    private static final String PICTURES_FILE_PATH = "src/main/resources/files/json/pictures.json";
+    private static final String PICTURES_FILE = "json/pictures.json";
 
     private final PictureRepository pictureRepository;
     private final ModelMapper modelMapper;
     private final Gson gson;
     private final ValidationUtil validationUtil;
     private final CarService carService;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final String picturesFilePath;
 
-    public PictureServiceImpl(PictureRepository pictureRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, CarService carService) {
+    public PictureServiceImpl(PictureRepository pictureRepository, ModelMapper modelMapper, Gson gson, ValidationUtil validationUtil, CarService carService, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, @Value("${import.files-dir}") String filesDir) {
         this.pictureRepository = pictureRepository;
         this.modelMapper = modelMapper;
         this.gson = gson;
         this.validationUtil = validationUtil;
         this.carService = carService;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.picturesFilePath = Path.of(filesDir, PICTURES_FILE).toString();
     }
 
     @Override
@@ -41,28 +55,26 @@ public class PictureServiceImpl implements PictureService {
 
     @Override
     public String readPicturesFromFile() throws IOException {
-        return Files.readString(Path.of(PICTURES_FILE_PATH));
+        return Files.readString(Path.of(picturesFilePath));
     }
 
     @Override
     public String importPictures() throws IOException {
-        StringBuilder result = new StringBuilder();
+        String picturesFileContent = readPicturesFromFile();
 
-        Arrays.stream(gson.fromJson(readPicturesFromFile(), PictureSeedDto[].class))
-                .filter(pictureSeedDto -> {
-                    boolean isValid = validationUtil.isValid(pictureSeedDto);
+        long parseStart = System.nanoTime();
+        PictureSeedDto[] pictureSeedDtos = gson.fromJson(picturesFileContent, PictureSeedDto[].class);
+        importMetrics.record(Picture.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-                    result.append(isValid ? String.format("Successfully import picture - %s", pictureSeedDto.getName())
-                            : "Invalid picture").append(System.lineSeparator());
+        return importPipeline.run(Picture.class, Arrays.stream(pictureSeedDtos), pictureSeedDto -> {
+            if (!importMetrics.time(Picture.class, ImportStage.VALIDATE, () -> validationUtil.isValid(pictureSeedDto))) {
+                return ImportRecord.<Picture>rejected("Invalid picture");
+            }
 
-                    return isValid;
-                }).map(pictureSeedDto -> {
-                    Picture picture = modelMapper.map(pictureSeedDto, Picture.class);
-                    picture.setCar(carService.getCarById(pictureSeedDto.getCar()));
+            Picture picture = importMetrics.time(Picture.class, ImportStage.MAP, () -> modelMapper.map(pictureSeedDto, Picture.class));
+            picture.setCar(importMetrics.time(Picture.class, ImportStage.RESOLVE, () -> carService.getCarById(pictureSeedDto.getCar())));
 
-                    return picture;
-                }).forEach(pictureRepository::save);
-
-        return result.toString();
+            return ImportRecord.imported(picture, String.format("Successfully import picture - %s", pictureSeedDto.getName()));
+        }, pictures -> chunkedSaver.saveAll(pictures, pictureRepository));
     }
 }
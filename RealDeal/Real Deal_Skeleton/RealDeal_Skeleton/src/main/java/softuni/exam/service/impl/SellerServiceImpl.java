@@ -1,11 +1,17 @@
 package softuni.exam.service.impl;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import softuni.exam.models.dto.xml.SellerSeedRootDto;
 import softuni.exam.models.entity.Seller;
 import softuni.exam.repository.SellerRepository;
 import softuni.exam.service.SellerService;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
 import softuni.exam.util.ValidationUtil;
 import softuni.exam.util.XmlParser;
 
@@ -17,18 +23,26 @@ import java.nio.file.Path;
 @Service
 public class SellerServiceImpl implements SellerService {
 
-    private static final String SELLERS_FILE_PATH = "src/main/resources/files/xml/sellers.xml";
+    private static final String SELLERS_FILE = "xml/sellers.xml";
 
     private final SellerRepository sellerRepository;
     private ModelMapper modelMapper;
     private ValidationUtil validationUtil;
     private final XmlParser xmlParser;
+    private final ChunkedSaver chunkedSaver;
+    private final ImportPipeline importPipeline;
+    private final ImportMetrics importMetrics;
+    private final String sellersFilePath;
 
-    public SellerServiceImpl(SellerRepository sellerRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser) {
+    public SellerServiceImpl(SellerRepository sellerRepository, ModelMapper modelMapper, ValidationUtil validationUtil, XmlParser xmlParser, ChunkedSaver chunkedSaver, ImportPipeline importPipeline, ImportMetrics importMetrics, @Value("${import.files-dir}") String filesDir) {
         this.sellerRepository = sellerRepository;
         this.modelMapper = modelMapper;
         this.validationUtil = validationUtil;
         this.xmlParser = xmlParser;
+        this.chunkedSaver = chunkedSaver;
+        this.importPipeline = importPipeline;
+        this.importMetrics = importMetrics;
+        this.sellersFilePath = Path.of(filesDir, SELLERS_FILE).toString();
     }
 
     @Override
@@ -38,28 +52,23 @@ public class SellerServiceImpl implements SellerService {
 
     @Override
     public String readSellersFromFile() throws IOException {
-        return Files.readString(Path.of(SELLERS_FILE_PATH));
+        return Files.readString(Path.of(sellersFilePath));
     }
 
     @Override
     public String importSellers() throws IOException, JAXBException {
-        StringBuilder result = new StringBuilder();
+        long parseStart = System.nanoTime();
+        SellerSeedRootDto sellerSeedRootDto = xmlParser.fromFile(sellersFilePath, SellerSeedRootDto.class);
+        importMetrics.record(Seller.class, ImportStage.PARSE, System.nanoTime() - parseStart);
 
-        xmlParser.fromFile(SELLERS_FILE_PATH, SellerSeedRootDto.class)
-                .getSellers()
-                .stream()
-                .filter(sellerSeedDto -> {
-                    boolean isValid = validationUtil.isValid(sellerSeedDto);
+        return importPipeline.run(Seller.class, sellerSeedRootDto.getSellers().stream(), sellerSeedDto -> {
+            if (!importMetrics.time(Seller.class, ImportStage.VALIDATE, () -> validationUtil.isValid(sellerSeedDto))) {
+                return ImportRecord.<Seller>rejected("Invalid seller");
+            }
 
-                    result.append(isValid ? String.format("Successfully import seller %s - %s",
-                            sellerSeedDto.getLastName(), sellerSeedDto.getEmail())
-                            : "Invalid seller").append(System.lineSeparator());
-
-                    return isValid;
-                }).map(sellerSeedDto -> modelMapper.map(sellerSeedDto, Seller.class))
-                .forEach(sellerRepository::save);
-
-        return result.toString();
+            return ImportRecord.imported(importMetrics.time(Seller.class, ImportStage.MAP, () -> modelMapper.map(sellerSeedDto, Seller.class)),
+                    String.format("Successfully import seller %s - %s", sellerSeedDto.getLastName(), sellerSeedDto.getEmail()));
+        }, sellers -> chunkedSaver.saveAll(sellers, sellerRepository));
     }
 
     @Override
@@ -0,0 +1,5 @@
+package softuni.exam.util;
+
+public enum ImportStage {
+    PARSE, VALIDATE, MAP, RESOLVE, PERSIST
+}
@@ -0,0 +1,8 @@
+package softuni.exam.util;
+
+public interface SqlStatementRecorder {
+
+    void record(String sql, long elapsedNanos, Object[] parameters, int batchSize);
+
+    void recordResultBytes(String sql, long bytes);
+}
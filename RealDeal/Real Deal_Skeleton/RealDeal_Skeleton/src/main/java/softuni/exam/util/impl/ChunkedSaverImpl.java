@@ -0,0 +1,89 @@
+package softuni.exam.util.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import softuni.exam.util.ChunkedSaver;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportStage;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+public class ChunkedSaverImpl implements ChunkedSaver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedSaverImpl.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportMetrics importMetrics;
+    private final int chunkSize;
+
+    public ChunkedSaverImpl(EntityManager entityManager, TransactionTemplate transactionTemplate, ImportMetrics importMetrics,
+                            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.importMetrics = importMetrics;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public <T> void saveAll(Stream<T> entities, CrudRepository<T, ?> repository) {
+        saveAll(entities, Function.identity(), repository);
+    }
+
+    @Override
+    public <S, T> void saveAll(Stream<S> sources, Function<List<S>, List<T>> chunkMapper, CrudRepository<T, ?> repository) {
+        long start = System.nanoTime();
+        long saved = 0;
+
+        List<S> chunk = new ArrayList<>(chunkSize);
+        Iterator<S> iterator = sources.iterator();
+
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+
+            if (chunk.size() == chunkSize) {
+                saved += saveChunk(chunk, chunkMapper, repository);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            saved += saveChunk(chunk, chunkMapper, repository);
+        }
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        LOGGER.info("Saved {} rows in {} ms ({} rows/sec)", saved, elapsedMillis, saved * 1000 / elapsedMillis);
+    }
+
+    private <S, T> int saveChunk(List<S> chunk, Function<List<S>, List<T>> chunkMapper, CrudRepository<T, ?> repository) {
+        return transactionTemplate.execute(status -> {
+            long start = System.nanoTime();
+            List<T> entities = chunkMapper.apply(chunk);
+            long resolved = System.nanoTime();
+
+            repository.saveAll(entities);
+            entityManager.flush();
+            entityManager.clear();
+
+            if (!entities.isEmpty()) {
+                Class<?> entityType = entities.get(0).getClass();
+                importMetrics.record(entityType, ImportStage.RESOLVE, resolved - start);
+                importMetrics.record(entityType, ImportStage.PERSIST, System.nanoTime() - resolved);
+            }
+
+            return entities.size();
+        });
+    }
+}
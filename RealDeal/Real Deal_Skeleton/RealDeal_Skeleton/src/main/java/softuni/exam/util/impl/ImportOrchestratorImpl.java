@@ -0,0 +1,211 @@
+package softuni.exam.util.impl;
+
+import org.springframework.stereotype.Component;
+import softuni.exam.util.ImportOrchestrator;
+import softuni.exam.util.ImportTask;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class ImportOrchestratorImpl implements ImportOrchestrator {
+
+    private final Map<String, ImportTask> tasks;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public ImportOrchestratorImpl(List<ImportTask> importTasks) {
+        this.tasks = inDependencyOrder(importTasks);
+        this.executor = Executors.newFixedThreadPool(Math.max(1, tasks.size()), namedThreads());
+    }
+
+    @Override
+    public Set<String> getEntities() {
+        return Collections.unmodifiableSet(tasks.keySet());
+    }
+
+    @Override
+    public String importEntity(String entity) throws Exception {
+        ImportTask task = tasks.get(entity);
+
+        if (task == null) {
+            throw new IllegalArgumentException("Unknown import " + entity);
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(entity, flight);
+
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            String report = task.runImport();
+            flight.complete(report);
+
+            return report;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(entity, flight);
+        }
+    }
+
+    @Override
+    public String importAll() throws Exception {
+        Map<String, CompletableFuture<String>> reports = new LinkedHashMap<>();
+        List<Future<?>> children = new ArrayList<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+
+        for (ImportTask task : tasks.values()) {
+            CompletableFuture<?>[] dependencies = task.getDependencies().stream()
+                    .map(reports::get)
+                    .toArray(CompletableFuture[]::new);
+
+            reports.put(task.getName(), CompletableFuture.allOf(dependencies)
+                    .thenCompose(ignored -> submit(() -> importIfNeeded(task), children, stopped)));
+        }
+
+        try {
+            await(CompletableFuture.allOf(reports.values().toArray(new CompletableFuture[0])));
+        } finally {
+            stop(children, stopped);
+        }
+
+        StringBuilder report = new StringBuilder();
+        reports.values().forEach(entityReport -> report.append(entityReport.join()).append(System.lineSeparator()));
+
+        return report.toString().trim();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Children run as executor futures rather than async stages, so a failed or interrupted import can interrupt the
+    // imports still running beside it instead of leaving them to finish on their own
+    private CompletableFuture<String> submit(Supplier<String> child, List<Future<?>> children, AtomicBoolean stopped) {
+        CompletableFuture<String> report = new CompletableFuture<>();
+
+        synchronized (children) {
+            if (stopped.get()) {
+                report.cancel(false);
+            } else {
+                children.add(executor.submit(() -> {
+                    try {
+                        report.complete(child.get());
+                    } catch (Throwable e) {
+                        report.completeExceptionally(e);
+                    }
+                }));
+            }
+        }
+
+        return report;
+    }
+
+    private static void stop(List<Future<?>> children, AtomicBoolean stopped) {
+        synchronized (children) {
+            stopped.set(true);
+            children.forEach(child -> child.cancel(true));
+        }
+    }
+
+    private String importIfNeeded(ImportTask task) {
+        if (task.isImported()) {
+            return String.format("Skipped %s - already imported", task.getName());
+        }
+
+        try {
+            return importEntity(task.getName());
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+
+            throw (Error) cause;
+        }
+    }
+
+    private static Map<String, ImportTask> inDependencyOrder(List<ImportTask> importTasks) {
+        Map<String, ImportTask> byName = new LinkedHashMap<>();
+        importTasks.forEach(task -> byName.put(task.getName(), task));
+
+        Map<String, ImportTask> ordered = new LinkedHashMap<>();
+        Set<String> visiting = new HashSet<>();
+
+        for (ImportTask task : byName.values()) {
+            visit(task, byName, ordered, visiting, new ArrayList<>());
+        }
+
+        return ordered;
+    }
+
+    private static void visit(ImportTask task, Map<String, ImportTask> byName, Map<String, ImportTask> ordered,
+                              Set<String> visiting, List<String> path) {
+        if (ordered.containsKey(task.getName())) {
+            return;
+        }
+
+        path.add(task.getName());
+
+        if (!visiting.add(task.getName())) {
+            throw new IllegalStateException("Import dependency cycle: " + String.join(" -> ", path));
+        }
+
+        for (String dependency : task.getDependencies()) {
+            ImportTask dependencyTask = byName.get(dependency);
+
+            if (dependencyTask == null) {
+                throw new IllegalStateException(task.getName() + " depends on unknown import " + dependency);
+            }
+
+            visit(dependencyTask, byName, ordered, visiting, path);
+        }
+
+        visiting.remove(task.getName());
+        path.remove(path.size() - 1);
+        ordered.put(task.getName(), task);
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "import-all-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
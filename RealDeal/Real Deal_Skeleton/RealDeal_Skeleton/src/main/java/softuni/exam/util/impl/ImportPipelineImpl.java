@@ -0,0 +1,201 @@
+package softuni.exam.util.impl;
+
+import org.springframework.stereotype.Component;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportPipeline;
+import softuni.exam.util.ImportRecord;
+import softuni.exam.util.ImportStage;
+import softuni.exam.util.SqlTraffic;
+import softuni.exam.util.StatementCounter;
+
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class ImportPipelineImpl implements ImportPipeline {
+
+    private static final int WORKERS = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKERS, namedThreads("import-worker-"));
+    private final ExecutorService stages = Executors.newCachedThreadPool(namedThreads("import-stage-"));
+    private final ImportMetrics importMetrics;
+    private final StatementCounter statementCounter;
+
+    public ImportPipelineImpl(ImportMetrics importMetrics, StatementCounter statementCounter) {
+        this.importMetrics = importMetrics;
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    public <S, T> String run(Class<T> entityType, Stream<S> sources, Function<S, ImportRecord<T>> worker, Consumer<Stream<T>> writer) {
+        long start = System.nanoTime();
+        LongAdder resultBytes = new LongAdder();
+        BlockingQueue<Future<ImportRecord<T>>> pending = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<ImportRecord<T>> imported = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Future<ImportRecord<T>> endOfInput = CompletableFuture.completedFuture(null);
+        ImportRecord<T> endOfOutput = ImportRecord.rejected(null);
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        Future<?> parser = stages.submit(statementCounter.carry(() -> {
+            try {
+                Iterator<S> iterator = sources.iterator();
+                long parseStart = System.nanoTime();
+
+                while (!cancelled.get() && iterator.hasNext()) {
+                    S source = iterator.next();
+                    importMetrics.record(entityType, ImportStage.PARSE, System.nanoTime() - parseStart);
+
+                    put(pending, workers.submit(statementCounter.carry(() -> SqlTraffic.measure(resultBytes, () -> worker.apply(source)))), cancelled::get);
+                    parseStart = System.nanoTime();
+                }
+            } finally {
+                put(pending, endOfInput, cancelled::get);
+            }
+
+            return null;
+        }));
+
+        Future<?> batchWriter = stages.submit(statementCounter.carry(() -> SqlTraffic.measure(resultBytes, () -> {
+            writer.accept(StreamSupport.stream(queueSpliterator(imported, endOfOutput, cancelled), false));
+
+            return null;
+        })));
+
+        StringBuilder report = new StringBuilder();
+        long importedCount = 0;
+        long rejectedCount = 0;
+        boolean completed = false;
+
+        try {
+            Future<ImportRecord<T>> next;
+
+            while ((next = pending.take()) != endOfInput) {
+                ImportRecord<T> record = next.get();
+                report.append(record.getMessage()).append(System.lineSeparator());
+
+                if (!record.isImported()) {
+                    rejectedCount++;
+                } else if (put(imported, record, batchWriter::isDone)) {
+                    importedCount++;
+                } else {
+                    break;
+                }
+            }
+
+            put(imported, endOfOutput, batchWriter::isDone);
+            batchWriter.get();
+            parser.get();
+
+            importMetrics.recordRun(entityType, importedCount, rejectedCount, resultBytes.sum(), System.nanoTime() - start);
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } finally {
+            if (!completed) {
+                cancelled.set(true);
+                pending.forEach(future -> future.cancel(false));
+                awaitQuietly(parser);
+                awaitQuietly(batchWriter);
+            }
+        }
+
+        return report.toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        stages.shutdownNow();
+    }
+
+    private static <E> boolean put(BlockingQueue<E> queue, E element, BooleanSupplier stopped) throws InterruptedException {
+        while (!queue.offer(element, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (stopped.getAsBoolean()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static <T> Spliterator<T> queueSpliterator(BlockingQueue<ImportRecord<T>> queue, ImportRecord<T> end, AtomicBoolean cancelled) {
+        return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    ImportRecord<T> record;
+
+                    while ((record = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                        if (cancelled.get()) {
+                            throw new CancellationException("Import cancelled");
+                        }
+                    }
+
+                    if (record == end) {
+                        return false;
+                    }
+
+                    action.accept(record.getEntity());
+
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Import interrupted");
+                }
+            }
+        };
+    }
+
+    private static void awaitQuietly(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException ignored) {
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,204 @@
+package softuni.exam.util.impl;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import softuni.exam.util.SqlStatementRecorder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+public class StatementTimingDataSource extends DelegatingDataSource {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final Supplier<SqlStatementRecorder> recorderSupplier;
+    private volatile SqlStatementRecorder recorder;
+
+    public StatementTimingDataSource(DataSource targetDataSource, Supplier<SqlStatementRecorder> recorder) {
+        super(targetDataSource);
+        this.recorderSupplier = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    private SqlStatementRecorder recorder() {
+        if (recorder == null) {
+            recorder = recorderSupplier.get();
+        }
+
+        return recorder;
+    }
+
+    private Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+
+                    if (result instanceof Statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+
+                        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{method.getReturnType()},
+                                new StatementHandler((Statement) result, sql));
+                    }
+
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Approximates wire size: character data by length, fixed-width values as eight bytes
+    private static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+
+        return value instanceof byte[] ? ((byte[]) value).length : Long.BYTES;
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private Object[] parameters = NO_PARAMETERS;
+        private String batchSql;
+        private int batchSize;
+        private String executedSql;
+        private ResultSetHandler resultSet;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters = NO_PARAMETERS;
+            } else if (name.equals("addBatch")) {
+                batchSql = args != null ? (String) args[0] : sql;
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (name.startsWith("execute")) {
+                return execute(method, args);
+            } else if (name.equals("getResultSet")) {
+                return counted(StatementTimingDataSource.invoke(target, method, args));
+            } else if (name.equals("close")) {
+                flushResultBytes();
+            }
+
+            return StatementTimingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            boolean batch = method.getName().endsWith("Batch");
+            String executed = batch ? batchSql : args != null && args.length > 0 ? (String) args[0] : sql;
+            int executedRows = batch ? batchSize : 1;
+            long start = System.nanoTime();
+            executedSql = executed;
+
+            try {
+                return counted(StatementTimingDataSource.invoke(target, method, args));
+            } finally {
+                if (batch) {
+                    batchSize = 0;
+                }
+
+                if (executed != null) {
+                    recorder().record(executed, System.nanoTime() - start, parameters, executedRows);
+                }
+            }
+        }
+
+        private Object counted(Object result) {
+            if (!(result instanceof ResultSet) || executedSql == null) {
+                return result;
+            }
+
+            flushResultBytes();
+            resultSet = new ResultSetHandler((ResultSet) result, executedSql);
+
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, resultSet);
+        }
+
+        private void flushResultBytes() {
+            if (resultSet != null) {
+                resultSet.flush();
+                resultSet = null;
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+
+            parameters[index - 1] = value;
+        }
+    }
+
+    private class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private long bytes;
+        private boolean flushed;
+
+        private ResultSetHandler(ResultSet target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementTimingDataSource.invoke(target, method, args);
+            String name = method.getName();
+
+            if (name.startsWith("get") && args != null && args.length > 0) {
+                bytes += sizeOf(result);
+            } else if (name.equals("close")) {
+                flush();
+            }
+
+            return result;
+        }
+
+        private void flush() {
+            if (!flushed) {
+                flushed = true;
+                recorder().recordResultBytes(sql, bytes);
+            }
+        }
+    }
+}
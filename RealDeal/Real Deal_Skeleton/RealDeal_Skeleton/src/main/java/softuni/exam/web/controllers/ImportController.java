@@ -1,5 +1,7 @@
 package softuni.exam.web.controllers;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,26 +12,32 @@ import softuni.exam.service.CarService;
 import softuni.exam.service.OfferService;
 import softuni.exam.service.PictureService;
 import softuni.exam.service.SellerService;
+import softuni.exam.util.ImportMetrics;
+import softuni.exam.util.ImportOrchestrator;
 
-import javax.xml.bind.JAXBException;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 @Controller
 @RequestMapping("/import")
 public class ImportController extends BaseController {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportController.class);
+
     private final CarService carService;
     private final OfferService offerService;
     private final PictureService pictureService;
     private final SellerService sellerService;
+    private final ImportMetrics importMetrics;
+    private final ImportOrchestrator importOrchestrator;
 
     @Autowired
-    public ImportController(CarService carService, OfferService offerService, PictureService pictureService, SellerService sellerService) {
+    public ImportController(CarService carService, OfferService offerService, PictureService pictureService, SellerService sellerService, ImportMetrics importMetrics, ImportOrchestrator importOrchestrator) {
         this.carService = carService;
         this.offerService = offerService;
         this.pictureService = pictureService;
         this.sellerService = sellerService;
+        this.importMetrics = importMetrics;
+        this.importOrchestrator = importOrchestrator;
     }
 
 
@@ -56,6 +64,12 @@ public class ImportController extends BaseController {
     }
 
 
+    @GetMapping("/stats")
+    public ModelAndView importStats() {
+        return super.view("import-stats", "stats", this.importMetrics.getStats());
+    }
+
+
     @GetMapping("/sellers")
     public ModelAndView importSellers() throws IOException {
         String picturesXmlFileContent = this.sellerService.readSellersFromFile();
@@ -63,8 +77,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/sellers")
-    public ModelAndView importSellersConfirm() throws JAXBException, IOException {
-        System.out.println(this.sellerService.importSellers());
+    public ModelAndView importSellersConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("sellers"));
 
         return super.redirect("/import/xml");
     }
@@ -77,8 +91,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/offers")
-    public ModelAndView importOffersConfirm() throws JAXBException, FileNotFoundException, IOException {
-        System.out.println(this.offerService.importOffers());
+    public ModelAndView importOffersConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("offers"));
 
         return super.redirect("/import/xml");
     }
@@ -91,8 +105,8 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/cars")
-    public ModelAndView importPlayersConfirm() throws IOException {
-        System.out.println(this.carService.importCars());
+    public ModelAndView importPlayersConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("cars"));
         return super.redirect("/import/json");
     }
 
@@ -104,8 +118,15 @@ public class ImportController extends BaseController {
     }
 
     @PostMapping("/pictures")
-    public ModelAndView importPicturesConfirm() throws IOException, JAXBException {
-        System.out.println(this.pictureService.importPictures());
+    public ModelAndView importPicturesConfirm() throws Exception {
+        System.out.println(this.importOrchestrator.importEntity("pictures"));
         return super.redirect("/import/json");
     }
+
+    @PostMapping("/all")
+    public ModelAndView importAllConfirm() throws Exception {
+        LOGGER.info("Imported all entities:{}{}", System.lineSeparator(), this.importOrchestrator.importAll());
+
+        return super.redirect("/");
+    }
 }
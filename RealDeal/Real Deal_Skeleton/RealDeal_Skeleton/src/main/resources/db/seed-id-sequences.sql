@@ -0,0 +1,15 @@
+-- Ids come from one <entity>_seq table per entity, which ddl-auto=update creates starting at 1. Tables filled while ids
+-- were still IDENTITY columns already hold those values, so every sequence is moved past its table's highest id before
+-- the first insert. Sequences that are already ahead are left alone, so the script can run on every start
+
+UPDATE car_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM cars)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM cars);
+
+UPDATE picture_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM pictures)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM pictures);
+
+UPDATE seller_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM sellers)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM sellers);
+
+UPDATE offer_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM offers)
+WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM offers);